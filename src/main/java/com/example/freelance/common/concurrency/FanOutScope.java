@@ -0,0 +1,117 @@
+package com.example.freelance.common.concurrency;
+
+import com.example.freelance.common.context.RequestContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs independent subtasks on virtual threads with shutdown-on-failure semantics: the first
+ * failure interrupts the remaining subtasks. Subtasks inherit the caller's trace context. Mirrors
+ * {@code StructuredTaskScope.ShutdownOnFailure}, which is still a preview API on Java 21.
+ *
+ * <p>Closing the scope interrupts stragglers but does not wait for them, so a timed-out caller
+ * returns on time. A thread blocked in a JDBC call ignores interrupts; subtasks that query the
+ * database should run in a transaction whose timeout matches the join timeout, so the driver
+ * cancels the statement and the abandoned thread exits.
+ *
+ * <pre>{@code
+ * try (FanOutScope scope = new FanOutScope("dashboard")) {
+ *     FanOutScope.Subtask<Long> count = scope.fork(() -> repository.count());
+ *     scope.join(Duration.ofSeconds(5));
+ *     return count.get();
+ * }
+ * }</pre>
+ */
+public final class FanOutScope implements AutoCloseable {
+    private final ExecutorService executor;
+    private final List<CompletableFuture<?>> subtasks = new ArrayList<>();
+    private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+    public FanOutScope(String name) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    public <T> Subtask<T> fork(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        subtasks.add(result);
+        executor.execute(RequestContext.wrap(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+                firstFailure.completeExceptionally(ex);
+            }
+        }));
+        return new ForkedSubtask<>(result);
+    }
+
+    /**
+     * Waits until every subtask has completed or one has failed. On failure the remaining
+     * subtasks are interrupted and the failure is rethrown as is when unchecked.
+     *
+     * @throws TimeoutException if the subtasks did not finish in time; unfinished ones are
+     *                          interrupted, finished ones keep their results
+     */
+    public void join(Duration timeout) throws InterruptedException, TimeoutException {
+        CompletableFuture<Void> all = CompletableFuture.allOf(subtasks.toArray(CompletableFuture[]::new));
+        try {
+            CompletableFuture.anyOf(all, firstFailure).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            executor.shutdownNow();
+            Throwable cause = ex.getCause() instanceof CompletionException && ex.getCause().getCause() != null
+                    ? ex.getCause().getCause()
+                    : ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Subtask failed", cause);
+        } catch (TimeoutException | InterruptedException ex) {
+            executor.shutdownNow();
+            throw ex;
+        }
+    }
+
+    /**
+     * Interrupts anything still running without waiting for it; abandoned subtasks can no
+     * longer affect the results read from this scope.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public interface Subtask<T> {
+        /**
+         * Returns the result; only valid after a successful {@link #join} or when
+         * {@link #isSuccessful()} is true.
+         */
+        T get();
+
+        boolean isSuccessful();
+    }
+
+    private record ForkedSubtask<T>(CompletableFuture<T> result) implements Subtask<T> {
+        @Override
+        public T get() {
+            return result.join();
+        }
+
+        @Override
+        public boolean isSuccessful() {
+            return result.isDone() && !result.isCompletedExceptionally();
+        }
+    }
+}
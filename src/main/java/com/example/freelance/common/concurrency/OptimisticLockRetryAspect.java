@@ -0,0 +1,91 @@
+package com.example.freelance.common.concurrency;
+
+import com.example.freelance.common.exception.ConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries {@link RetryOnConflict} methods on optimistic locking failures. Ordered ahead of the
+ * transaction interceptor so each attempt runs in its own transaction against freshly loaded state.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticLockRetryAspect {
+    private static final String CONFLICT_METRIC = "freelance.concurrency.conflicts";
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxAttempts;
+    private final long backoffMs;
+
+    public OptimisticLockRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency.retry.max-attempts:3}") int defaultMaxAttempts,
+            @Value("${concurrency.retry.backoff-ms:20}") long backoffMs) {
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxAttempts = defaultMaxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        int maxAttempts = retryOnConflict.maxAttempts() > 0 ? retryOnConflict.maxAttempts() : defaultMaxAttempts;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    record(operation, "recovered");
+                }
+                return result;
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    record(operation, "exhausted");
+                    log.warn("Optimistic lock conflict not resolved: operation={}, attempts={}, cause={}",
+                            operation, attempt, ex.getMessage());
+                    throw new ConflictException(
+                            "The resource was modified concurrently. Please reload and try again.",
+                            "CONCURRENT_MODIFICATION");
+                }
+                record(operation, "retried");
+                log.debug("Optimistic lock conflict, retrying: operation={}, attempt={}", operation, attempt);
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    private void record(String operation, String outcome) {
+        meterRegistry.counter(CONFLICT_METRIC, "operation", operation, "outcome", outcome).increment();
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        long base = backoffMs * attempt;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(base, base * 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
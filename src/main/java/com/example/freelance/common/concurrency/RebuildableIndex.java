@@ -0,0 +1,65 @@
+package com.example.freelance.common.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The live generation of an in-memory index that is periodically rebuilt from the database and
+ * kept current by incremental updates in between. Readers get the current generation without
+ * locking. Updates that arrive while a rebuild is loading are recorded and replayed onto the
+ * rebuilt generation before it is swapped in, so no update is lost to the swap.
+ *
+ * @param <S> the index generation; updates must be safe to run concurrently with its readers
+ */
+public final class RebuildableIndex<S> {
+    private final Object rebuildLock = new Object();
+    private volatile S current;
+    private List<Consumer<S>> pendingUpdates;
+
+    public RebuildableIndex(S initial) {
+        this.current = initial;
+    }
+
+    public S get() {
+        return current;
+    }
+
+    /**
+     * Applies an update to the live generation and, while a rebuild is loading, records it for
+     * replay onto the rebuilt one.
+     */
+    public synchronized void apply(Consumer<S> update) {
+        update.accept(current);
+        if (pendingUpdates != null) {
+            pendingUpdates.add(update);
+        }
+    }
+
+    /**
+     * Loads a new generation and swaps it in. Concurrent rebuilds run one after the other; if the
+     * loader fails, the live generation is kept.
+     *
+     * @return the generation that was swapped in
+     */
+    public S rebuild(Supplier<S> loader) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingUpdates = new ArrayList<>();
+            }
+            try {
+                S rebuilt = loader.get();
+                synchronized (this) {
+                    pendingUpdates.forEach(update -> update.accept(rebuilt));
+                    current = rebuilt;
+                }
+                return rebuilt;
+            } finally {
+                synchronized (this) {
+                    pendingUpdates = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.freelance.common.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs a {@code @Transactional} service method in a fresh transaction when it fails with an
+ * optimistic locking conflict. Only applies at the outermost transaction boundary; calls that join
+ * an existing transaction propagate the conflict to the caller.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+    /**
+     * Total number of attempts, including the first one. Zero uses {@code concurrency.retry.max-attempts}.
+     */
+    int maxAttempts() default 0;
+}
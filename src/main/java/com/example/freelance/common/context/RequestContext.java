@@ -0,0 +1,85 @@
+package com.example.freelance.common.context;
+
+import lombok.Getter;
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+/**
+ * Request-scoped tracing context. Each thread owns one reusable instance that is reset
+ * between requests instead of being reallocated.
+ */
+@Getter
+public final class RequestContext {
+
+    private static final ThreadLocal<RequestContext> CURRENT = ThreadLocal.withInitial(RequestContext::new);
+
+    private String traceId;
+    private String spanId;
+    private String requestMethod;
+    private String requestPath;
+
+    private RequestContext() {
+    }
+
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    public static RequestContext begin(String traceId, String spanId, String requestMethod, String requestPath) {
+        RequestContext context = CURRENT.get();
+        context.traceId = traceId;
+        context.spanId = spanId;
+        context.requestMethod = requestMethod;
+        context.requestPath = requestPath;
+        return context;
+    }
+
+    public static void clear() {
+        RequestContext context = CURRENT.get();
+        context.traceId = null;
+        context.spanId = null;
+        context.requestMethod = null;
+        context.requestPath = null;
+    }
+
+    /**
+     * Captures the current context and MDC so they can be restored on another thread.
+     */
+    public static Snapshot capture() {
+        RequestContext context = CURRENT.get();
+        return new Snapshot(context.traceId, context.spanId, context.requestMethod, context.requestPath,
+                MDC.getCopyOfContextMap());
+    }
+
+    /**
+     * Wraps a task so that it runs with the caller's context, e.g. on a virtual-thread executor.
+     */
+    public static Runnable wrap(Runnable task) {
+        Snapshot snapshot = capture();
+        return () -> snapshot.run(task);
+    }
+
+    public record Snapshot(String traceId, String spanId, String requestMethod, String requestPath,
+                           Map<String, String> mdc) {
+
+        public void run(Runnable task) {
+            Snapshot previous = capture();
+            apply();
+            try {
+                task.run();
+            } finally {
+                previous.apply();
+            }
+        }
+
+        private void apply() {
+            begin(traceId, spanId, requestMethod, requestPath);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+}
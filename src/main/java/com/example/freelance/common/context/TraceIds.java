@@ -0,0 +1,99 @@
+package com.example.freelance.common.context;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trace and span id generation compatible with the W3C {@code traceparent} format.
+ * Uses {@link ThreadLocalRandom}: ids only need to be unique, not unpredictable.
+ */
+public final class TraceIds {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH = 16;
+    private static final int MAX_EXTERNAL_ID_LENGTH = 64;
+
+    private TraceIds() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        if (high == 0 && low == 0) {
+            low = 1;
+        }
+        char[] chars = new char[TRACE_ID_LENGTH];
+        writeHex(high, chars, 0);
+        writeHex(low, chars, SPAN_ID_LENGTH);
+        return new String(chars);
+    }
+
+    public static String newSpanId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        if (value == 0) {
+            value = 1;
+        }
+        char[] chars = new char[SPAN_ID_LENGTH];
+        writeHex(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Extracts the trace id from a {@code traceparent} header ({@code 00-<trace-id>-<parent-id>-<flags>}),
+     * or returns {@code null} when the header is absent or malformed.
+     */
+    public static String fromTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-') {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        return isTraceId(traceId) ? traceId : null;
+    }
+
+    public static boolean isTraceId(String value) {
+        return value != null && value.length() == TRACE_ID_LENGTH && isLowerHex(value)
+                && !value.equals("00000000000000000000000000000000");
+    }
+
+    public static String toTraceparent(String traceId, String spanId) {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    /**
+     * Accepts a caller supplied id (e.g. {@code X-Trace-Id}) only if it is short and made of
+     * id-safe characters, so it cannot be used to inject content into logs or headers.
+     */
+    public static boolean isAcceptableExternalId(String id) {
+        if (id == null || id.isEmpty() || id.length() > MAX_EXTERNAL_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeHex(long value, char[] target, int offset) {
+        for (int i = SPAN_ID_LENGTH - 1; i >= 0; i--) {
+            target[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isLowerHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.freelance.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One slice of a keyset-paginated result")
+public class CursorPage<T> {
+
+    @Schema(description = "Items of this slice")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor to pass back for the next slice; absent on the last slice", example = "MTcwNTMxNDYwMDAwMDAwMDAwMDoxMjM")
+    private String nextCursor;
+
+    @Schema(description = "Whether more items follow this slice", example = "true")
+    private Boolean hasMore;
+
+    /**
+     * Builds a slice from a query that fetched up to {@code limit + 1} rows; the extra row only
+     * signals that another slice exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        boolean hasMore = fetched.size() > limit;
+        List<T> items = hasMore ? fetched.subList(0, limit) : fetched;
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(hasMore ? cursorOf.apply(items.get(items.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -8,6 +8,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -117,6 +119,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            HttpServletRequest request) {
+        log.warn("Service unavailable [{}]: {}", ex.getErrorCode(), ex.getMessage());
+
+        ErrorDetail error = ErrorDetail.builder()
+                .code(ex.getErrorCode())
+                .message(ex.getMessage())
+                .status(ex.getHttpStatus().value())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+
+        ApiResponse<Void> response = ApiResponse.error(error);
+        return ResponseEntity.status(ex.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(
             BusinessException ex,
@@ -135,6 +157,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getHttpStatus()).body(response);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+        log.warn("Concurrent modification detected: {}", ex.getMessage());
+
+        ErrorDetail error = ErrorDetail.builder()
+                .code("CONCURRENT_MODIFICATION")
+                .message("The resource was modified concurrently. Please reload and try again.")
+                .status(HttpStatus.CONFLICT.value())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+
+        ApiResponse<Void> response = ApiResponse.error(error);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ApiResponse<Void>> handleAuthenticationException(
             AuthenticationException ex,
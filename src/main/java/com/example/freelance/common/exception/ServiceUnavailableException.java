@@ -0,0 +1,16 @@
+package com.example.freelance.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, String errorCode, long retryAfterSeconds) {
+        super(message, errorCode, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.freelance.common.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * Counts entities hydrated from result sets, which approximates the rows a request reads.
+ */
+public class EntityLoadCountingInterceptor implements Interceptor, Serializable {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordEntityLoad();
+        }
+        return false;
+    }
+}
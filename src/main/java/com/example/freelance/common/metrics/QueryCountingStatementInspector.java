@@ -0,0 +1,15 @@
+package com.example.freelance.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql.stripLeading());
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.freelance.common.metrics;
+
+/**
+ * Per-request SQL counters, bound to the request thread by {@code RequestMetricsFilter}.
+ * Work done on other threads is not attributed to the request.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int selects;
+    private long entitiesLoaded;
+
+    private RequestQueryStats() {
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        if (sql.regionMatches(true, 0, "select", 0, 6)) {
+            selects++;
+        }
+    }
+
+    void recordEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.freelance.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Per-node buckets in a bounded cache. Idle buckets are evicted once they would have refilled
+ * anyway, so eviction never grants more than a fresh bucket would.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimitStore(long maxBuckets, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new TokenBucket(policy, now)).tryConsume(1, now);
+    }
+}
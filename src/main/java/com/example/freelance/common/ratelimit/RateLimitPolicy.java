@@ -0,0 +1,37 @@
+package com.example.freelance.common.ratelimit;
+
+/**
+ * Token bucket shape: up to {@code capacity} requests in a burst, refilled continuously at
+ * {@code refillPerSecond}.
+ */
+public record RateLimitPolicy(long capacity, double refillPerSecond) {
+    public RateLimitPolicy {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+    }
+
+    /**
+     * Tokens available after {@code elapsedNanos} of refill, capped at capacity.
+     */
+    public double refill(double tokens, long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return tokens;
+        }
+        return Math.min(capacity, tokens + elapsedNanos * refillPerSecond / 1_000_000_000d);
+    }
+
+    /**
+     * Nanoseconds until {@code permits} tokens are available, starting from {@code tokens}.
+     */
+    public long nanosUntil(double tokens, int permits) {
+        return (long) Math.ceil((permits - tokens) / refillPerSecond * 1_000_000_000d);
+    }
+
+    /**
+     * Nanoseconds an idle bucket needs to refill completely; after that its state can be dropped.
+     */
+    public long nanosToFull() {
+        return nanosUntil(0, (int) capacity);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.freelance.common.ratelimit;
+
+/**
+ * Holds token bucket state keyed by subject and route.
+ */
+public interface RateLimitStore {
+    /**
+     * Takes one token from the bucket identified by {@code key}, creating it full on first use.
+     *
+     * @return 0 when the request is admitted, otherwise the nanoseconds until a token is available
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+}
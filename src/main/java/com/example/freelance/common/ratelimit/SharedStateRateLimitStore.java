@@ -0,0 +1,47 @@
+package com.example.freelance.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limit state kept the way a shared key-value store would keep it for a multi-node
+ * deployment. Bucket state is a plain value stamped with wall-clock time instead of a node-local
+ * monotonic clock, and each acquisition is one atomic read-modify-write per key, mirroring a
+ * server-side script. Entries expire once the bucket would be full again. This implementation
+ * keeps the values in process, so it stands in for the network store until one is provisioned.
+ */
+public class SharedStateRateLimitStore implements RateLimitStore {
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long nowMillis = System.currentTimeMillis();
+        long[] waitNanos = new long[1];
+        entries.compute(key, (k, entry) -> {
+            double tokens = policy.capacity();
+            if (entry != null && entry.expiresAtMillis() > nowMillis) {
+                long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(nowMillis - entry.updatedAtMillis());
+                tokens = policy.refill(entry.tokens(), elapsedNanos);
+            }
+            if (tokens < 1) {
+                waitNanos[0] = policy.nanosUntil(tokens, 1);
+                return entry;
+            }
+            long ttlMillis = TimeUnit.NANOSECONDS.toMillis(policy.nanosToFull()) + 1;
+            return new Entry(tokens - 1, nowMillis, nowMillis + ttlMillis);
+        });
+        return waitNanos[0];
+    }
+
+    /**
+     * Drops entries past their expiry, as the shared store's key TTL would.
+     */
+    public void purgeExpired() {
+        long nowMillis = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+    }
+
+    private record Entry(double tokens, long updatedAtMillis, long expiresAtMillis) {
+    }
+}
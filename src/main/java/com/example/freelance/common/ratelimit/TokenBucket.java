@@ -0,0 +1,39 @@
+package com.example.freelance.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. Refill is computed lazily from elapsed time on each acquisition and the
+ * new state is published with a single compare-and-set, so contended callers never block.
+ */
+public final class TokenBucket {
+    private final RateLimitPolicy policy;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(RateLimitPolicy policy, long nowNanos) {
+        this.policy = policy;
+        this.state = new AtomicReference<>(new State(policy.capacity(), nowNanos));
+    }
+
+    /**
+     * Takes {@code permits} tokens if available.
+     *
+     * @return 0 when the tokens were taken, otherwise the nanoseconds until they will be available
+     */
+    public long tryConsume(int permits, long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = policy.refill(current.tokens(), nowNanos - current.refilledAtNanos());
+            if (tokens < permits) {
+                return policy.nanosUntil(tokens, permits);
+            }
+            long refilledAt = Math.max(nowNanos, current.refilledAtNanos());
+            if (state.compareAndSet(current, new State(tokens - permits, refilledAt))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.freelance.common.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support. Weak ETags are derived from identifiers and modification timestamps,
+ * so a service can compute the validators with a narrow query and the controller can answer
+ * {@code 304 Not Modified} before the full entity is loaded, mapped or serialized.
+ */
+public class HttpCacheUtil {
+
+    /**
+     * User-specific or access-controlled data: clients keep a copy but must revalidate it.
+     */
+    public static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Reference data that is identical for every caller and changes rarely.
+     */
+    public static final CacheControl PUBLIC_REFERENCE_DATA = CacheControl.maxAge(Duration.ofMinutes(5))
+            .cachePublic()
+            .staleWhileRevalidate(Duration.ofMinutes(1));
+
+    private HttpCacheUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Builds a weak ETag from the given parts; timestamps are reduced to epoch milliseconds.
+     */
+    public static String weakETag(Object... parts) {
+        StringJoiner joiner = new StringJoiner(":");
+        for (Object part : parts) {
+            joiner.add(part instanceof Instant instant ? Long.toString(instant.toEpochMilli()) : Objects.toString(part));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static Instant latest(Instant... instants) {
+        Instant latest = null;
+        for (Instant instant : instants) {
+            if (instant != null && (latest == null || instant.isAfter(latest))) {
+                latest = instant;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Answers {@code 304} when the client's copy matches {@code validators}; otherwise obtains the
+     * body from {@code body} and returns it with the caching headers. Without validators the body
+     * is always returned.
+     */
+    public static <T> ResponseEntity<T> conditionalGet(WebRequest request, Validators validators,
+                                                       CacheControl cacheControl, Supplier<T> body) {
+        if (validators != null && checkNotModified(request, validators)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * Evaluates {@code If-None-Match}/{@code If-Modified-Since} and sets {@code ETag} and
+     * {@code Last-Modified} on the response.
+     */
+    private static boolean checkNotModified(WebRequest request, Validators validators) {
+        if (validators.lastModified() == null) {
+            return request.checkNotModified(validators.eTag());
+        }
+        return request.checkNotModified(validators.eTag(), validators.lastModified().toEpochMilli());
+    }
+
+    public record Validators(String eTag, Instant lastModified) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.freelance.common.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable trie of path patterns, built once and matched segment by segment. Supports literal
+ * segments and a trailing {@code /**}, which matches the prefix itself and anything below it.
+ * Matching is linear in the number of path segments regardless of how many patterns are stored.
+ */
+public final class PathPatternTrie {
+    private static final String ANY_SUFFIX = "**";
+
+    private final Node root = new Node();
+
+    public PathPatternTrie(Collection<String> patterns) {
+        patterns.forEach(this::add);
+    }
+
+    public boolean matches(String path) {
+        Node node = root;
+        int length = path.length();
+        int start = 0;
+        while (start < length) {
+            if (node.anySuffix) {
+                return true;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    return false;
+                }
+            }
+            start = end + 1;
+        }
+        return node.terminal || node.anySuffix;
+    }
+
+    private void add(String pattern) {
+        Node node = root;
+        String[] segments = pattern.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (ANY_SUFFIX.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pattern);
+                }
+                node.anySuffix = true;
+                return;
+            }
+            node = node.children.computeIfAbsent(segment, s -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+        private boolean anySuffix;
+    }
+}
@@ -3,10 +3,21 @@ package com.example.freelance.common.util;
 import com.example.freelance.common.dto.ApiResponse;
 import com.example.freelance.common.dto.Metadata;
 import com.example.freelance.common.dto.PaginationInfo;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
+@Slf4j
 public class ResponseUtil {
 
+    private static final int UNBOUNDED_LIST_THRESHOLD = 500;
+    private static final String IN_MEMORY_PAGINATION_METRIC = "freelance.pagination.in_memory";
+    private static final String IN_MEMORY_PAGINATION_SIZE_METRIC = "freelance.pagination.in_memory.size";
+
     private ResponseUtil() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -29,5 +40,27 @@ public class ResponseUtil {
         Metadata metadata = Metadata.withTimestamp();
         return ApiResponse.success(data, metadata);
     }
-}
 
+    /**
+     * Slices an already loaded list into a page. Prefer a pageable repository query; every call is
+     * counted in metrics and lists above {@value #UNBOUNDED_LIST_THRESHOLD} elements are flagged as unbounded.
+     */
+    public static <T> Page<T> paginateInMemory(List<T> items, Pageable pageable, String source) {
+        boolean unbounded = items.size() > UNBOUNDED_LIST_THRESHOLD;
+        Metrics.counter(IN_MEMORY_PAGINATION_METRIC, "source", source, "unbounded", String.valueOf(unbounded))
+                .increment();
+        Metrics.summary(IN_MEMORY_PAGINATION_SIZE_METRIC, "source", source).record(items.size());
+        if (unbounded) {
+            log.warn("In-memory pagination of unbounded list: source={}, size={}, pageable={}",
+                    source, items.size(), pageable);
+        }
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(items, pageable, items.size());
+        }
+
+        int start = (int) Math.min(pageable.getOffset(), items.size());
+        int end = Math.min(start + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(start, end), pageable, items.size());
+    }
+}
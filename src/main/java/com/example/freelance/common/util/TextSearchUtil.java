@@ -0,0 +1,140 @@
+package com.example.freelance.common.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Query parsing and highlighting shared by the keyword searches. A query is reduced to
+ * lower-case letter/digit terms, each of which matches any word it is a prefix of.
+ */
+public class TextSearchUtil {
+    public static final int MAX_QUERY_TERMS = 10;
+    public static final String MARK_START = "<mark>";
+    public static final String MARK_END = "</mark>";
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int SNIPPET_LEAD = 40;
+
+    private TextSearchUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Distinct terms of the query in their original order, at most {@link #MAX_QUERY_TERMS}.
+     * Returns an empty list when the query has no searchable terms.
+     */
+    public static List<String> parseQuery(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        Matcher matcher = WORD.matcher(query.toLowerCase(Locale.ROOT));
+        while (matcher.find() && terms.size() < MAX_QUERY_TERMS) {
+            if (!terms.contains(matcher.group())) {
+                terms.add(matcher.group());
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Lower-case words of the text, in order and with repetitions.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text != null) {
+            Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+            while (matcher.find()) {
+                words.add(matcher.group());
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A Postgres {@code to_tsquery} expression requiring every term as a prefix. Terms only
+     * contain letters and digits, so they need no escaping.
+     */
+    public static String toPrefixTsQuery(List<String> terms) {
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+
+    /**
+     * SQL expression HTML-escaping {@code column} the same way as {@link HtmlUtils#htmlEscape},
+     * for {@code ts_headline} input. The text parser reads the escapes as entities, so they are
+     * neither matched nor split by the highlight tags.
+     */
+    public static String htmlEscapeSql(String column) {
+        return "replace(replace(replace(replace(replace(" + column +
+                ", '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '\"', '&quot;'), '''', '&#39;')";
+    }
+
+    /**
+     * An HTML excerpt of the text starting shortly before the first matched word, with every
+     * matched word wrapped in {@code <mark>} tags. The text itself is HTML-escaped, so the marks
+     * are the only markup in the result.
+     */
+    public static String snippet(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        Matcher matcher = WORD.matcher(lower);
+        int firstMatch = -1;
+        while (matcher.find()) {
+            if (matchesAny(matcher.group(), terms)) {
+                firstMatch = matcher.start();
+                break;
+            }
+        }
+
+        int start = firstMatch <= SNIPPET_LEAD ? 0 : wordStart(text, firstMatch - SNIPPET_LEAD);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("...");
+        }
+        int copied = start;
+        matcher = WORD.matcher(lower).region(start, end);
+        while (matcher.find()) {
+            if (matchesAny(matcher.group(), terms)) {
+                snippet.append(escape(text, copied, matcher.start()))
+                        .append(MARK_START).append(escape(text, matcher.start(), matcher.end())).append(MARK_END);
+                copied = matcher.end();
+            }
+        }
+        snippet.append(escape(text, copied, end));
+        if (end < text.length()) {
+            snippet.append("...");
+        }
+        return snippet.toString();
+    }
+
+    private static String escape(String text, int start, int end) {
+        return HtmlUtils.htmlEscape(text.substring(start, end));
+    }
+
+    private static boolean matchesAny(String word, List<String> terms) {
+        for (String term : terms) {
+            if (word.startsWith(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int wordStart(String text, int index) {
+        int start = index;
+        while (start > 0 && Character.isLetterOrDigit(text.charAt(start - 1))) {
+            start--;
+        }
+        return start;
+    }
+}
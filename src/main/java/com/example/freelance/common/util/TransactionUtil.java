@@ -0,0 +1,28 @@
+package com.example.freelance.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Runs {@code action} once the surrounding transaction commits, and not at all if it rolls
+     * back. Outside a transaction the action runs immediately.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.freelance.config;
+
+import com.example.freelance.common.context.RequestContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} and carries the request trace context onto executor threads.
+ * Boot applies the decorator to the auto-configured executor, including the virtual-thread one.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator requestContextTaskDecorator() {
+        return RequestContext::wrap;
+    }
+}
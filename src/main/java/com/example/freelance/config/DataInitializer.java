@@ -31,6 +31,7 @@ import com.example.freelance.repository.task.TaskRepository;
 import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.repository.user.FreelancerProfileRepository;
 import com.example.freelance.repository.user.UserRepository;
+import com.example.freelance.service.project.ProjectProposalStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -65,6 +66,7 @@ public class DataInitializer {
     private final PaymentRepository paymentRepository;
     private final ReviewRepository reviewRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ProjectProposalStatsService projectProposalStatsService;
 
     @Bean
     @Transactional
@@ -212,6 +214,10 @@ public class DataInitializer {
                     ProposalStatus.ACCEPTED
             );
 
+            // Proposals are seeded directly, so derive the per-project stats from them
+            projectProposalStatsService.rebuild(project1);
+            projectProposalStatsService.rebuild(project3);
+
             // Create Assignments
             Assignment assignment1 = createAssignment(
                     project1,
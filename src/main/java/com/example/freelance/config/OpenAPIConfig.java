@@ -2,11 +2,16 @@ package com.example.freelance.config;
 
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.customizers.GlobalOpenApiCustomizer;
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -77,5 +82,28 @@ public class OpenAPIConfig {
                                 .bearerFormat("JWT")
                                 .description("JWT token obtained from /api/auth/login endpoint")));
     }
-}
 
+    /**
+     * Documents the {@code Idempotency-Key} header on every POST endpoint the
+     * {@link IdempotencyFilter} covers, read from the same property so the two cannot drift.
+     */
+    @Bean
+    public GlobalOpenApiCustomizer idempotencyKeyHeaderCustomizer(
+            @Value("${idempotency.paths:/api/payments,/api/payouts,/api/proposals,/api/chat/messages}") List<String> paths) {
+        return openApi -> {
+            if (openApi.getPaths() == null) {
+                return;
+            }
+            for (String path : paths) {
+                PathItem pathItem = openApi.getPaths().get(path);
+                if (pathItem != null && pathItem.getPost() != null) {
+                    pathItem.getPost().addParametersItem(new HeaderParameter()
+                            .name("Idempotency-Key")
+                            .description("Optional client-generated key. Retries with the same key and payload replay the original response instead of creating a duplicate.")
+                            .example("6f1c2b1e-8c1d-4f5e-9a3b-2d7e4c0f9a11")
+                            .schema(new StringSchema().maxLength(255)));
+                }
+            }
+        };
+    }
+}
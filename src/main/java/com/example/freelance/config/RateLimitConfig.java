@@ -0,0 +1,44 @@
+package com.example.freelance.config;
+
+import com.example.freelance.common.ratelimit.LocalRateLimitStore;
+import com.example.freelance.common.ratelimit.RateLimitStore;
+import com.example.freelance.common.ratelimit.SharedStateRateLimitStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Selects the rate limit state store. {@code rate-limit.mode=local} (default) keeps buckets per
+ * node; {@code shared} uses the shared-state store so budgets can span nodes.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.mode", havingValue = "local", matchIfMissing = true)
+    public RateLimitStore localRateLimitStore(
+            @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${rate-limit.idle-timeout-seconds:600}") long idleTimeoutSeconds) {
+        return new LocalRateLimitStore(maxBuckets, Duration.ofSeconds(idleTimeoutSeconds));
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "rate-limit.mode", havingValue = "shared")
+    static class SharedStateConfig {
+        private final SharedStateRateLimitStore store = new SharedStateRateLimitStore();
+
+        @Bean
+        public RateLimitStore sharedStateRateLimitStore() {
+            return store;
+        }
+
+        @Scheduled(fixedDelayString = "${rate-limit.purge-interval-ms:60000}")
+        public void purgeExpiredBuckets() {
+            store.purgeExpired();
+        }
+    }
+}
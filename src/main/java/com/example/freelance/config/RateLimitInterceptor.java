@@ -0,0 +1,121 @@
+package com.example.freelance.config;
+
+import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.dto.ErrorDetail;
+import com.example.freelance.common.ratelimit.RateLimitPolicy;
+import com.example.freelance.common.ratelimit.RateLimitStore;
+import com.example.freelance.domain.user.Role;
+import com.example.freelance.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket admission control keyed by caller and route template. Authenticated callers are
+ * limited per user id with the policy of their role, anonymous callers per client address.
+ * Runs as a handler interceptor so the matched route template ({@code /api/projects/{id}}) is
+ * known and all ids of one route share a bucket.
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String REJECTION_METRIC = "freelance.ratelimit.rejections";
+    private static final String ANONYMOUS = "ANONYMOUS";
+
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final RateLimitPolicy anonymousPolicy;
+    private final Map<Role, RateLimitPolicy> rolePolicies = new EnumMap<>(Role.class);
+
+    public RateLimitInterceptor(
+            RateLimitStore rateLimitStore,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.anonymous.capacity:20}") long anonymousCapacity,
+            @Value("${rate-limit.anonymous.refill-per-second:2}") double anonymousRefill,
+            @Value("${rate-limit.client.capacity:60}") long clientCapacity,
+            @Value("${rate-limit.client.refill-per-second:10}") double clientRefill,
+            @Value("${rate-limit.freelancer.capacity:60}") long freelancerCapacity,
+            @Value("${rate-limit.freelancer.refill-per-second:10}") double freelancerRefill,
+            @Value("${rate-limit.admin.capacity:300}") long adminCapacity,
+            @Value("${rate-limit.admin.refill-per-second:50}") double adminRefill) {
+        this.rateLimitStore = rateLimitStore;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.anonymousPolicy = new RateLimitPolicy(anonymousCapacity, anonymousRefill);
+        rolePolicies.put(Role.CLIENT, new RateLimitPolicy(clientCapacity, clientRefill));
+        rolePolicies.put(Role.FREELANCER, new RateLimitPolicy(freelancerCapacity, freelancerRefill));
+        rolePolicies.put(Role.ADMIN, new RateLimitPolicy(adminCapacity, adminRefill));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!enabled || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern != null ? pattern.toString() : request.getRequestURI());
+
+        String subject;
+        String tier;
+        RateLimitPolicy policy;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            subject = "user:" + userPrincipal.getId();
+            tier = userPrincipal.getRole().name();
+            policy = rolePolicies.get(userPrincipal.getRole());
+        } else {
+            subject = "ip:" + request.getRemoteAddr();
+            tier = ANONYMOUS;
+            policy = anonymousPolicy;
+        }
+
+        long waitNanos = rateLimitStore.tryAcquire(subject + "|" + route, policy);
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        meterRegistry.counter(REJECTION_METRIC, "route", route, "tier", tier).increment();
+        log.warn("Rate limit exceeded: subject={}, route={}, tier={}, retryAfterSeconds={}",
+                subject, route, tier, retryAfterSeconds);
+
+        ErrorDetail error = ErrorDetail.builder()
+                .code("RATE_LIMITED")
+                .message("Too many requests. Retry after " + retryAfterSeconds + " seconds.")
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(error));
+        return false;
+    }
+}
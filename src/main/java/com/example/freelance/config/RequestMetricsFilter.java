@@ -0,0 +1,109 @@
+package com.example.freelance.config;
+
+import com.example.freelance.common.context.RequestContext;
+import com.example.freelance.common.metrics.RequestQueryStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latency and SQL statement counts per route template and flags likely N+1 requests.
+ * Runs right after {@link TraceContextFilter} so slow-request logs carry the trace id and
+ * the recorded latency includes the security filter chain.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final long slowRequestThresholdMs;
+
+    public RequestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.request.statement-budget:20}") int statementBudget,
+            @Value("${metrics.request.slow-threshold-ms:1000}") long slowRequestThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.slowRequestThresholdMs = slowRequestThresholdMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            RequestQueryStats.end();
+            record(request, response, stats, elapsedNanos);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestQueryStats stats, long elapsedNanos) {
+        String route = resolveRoute(request);
+        String method = request.getMethod();
+        String status = String.valueOf(response.getStatus());
+
+        Timer.builder("freelance.request.latency")
+                .tags("route", route, "method", method, "status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("freelance.request.statements")
+                .tags("route", route, "method", method)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        DistributionSummary.builder("freelance.request.entities_loaded")
+                .tags("route", route, "method", method)
+                .register(meterRegistry)
+                .record(stats.getEntitiesLoaded());
+
+        if (stats.getStatements() > statementBudget) {
+            Counter.builder("freelance.request.statement_budget_exceeded")
+                    .tags("route", route, "method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Statement budget exceeded (possible N+1): route={} {}, statements={}, selects={}, budget={}, traceId={}",
+                    method, route, stats.getStatements(), stats.getSelects(), statementBudget, RequestContext.current().getTraceId());
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= slowRequestThresholdMs) {
+            log.warn("Slow request: route={} {}, status={}, durationMs={}, statements={}, entitiesLoaded={}, traceId={}",
+                    method, route, status, elapsedMs, stats.getStatements(), stats.getEntitiesLoaded(), RequestContext.current().getTraceId());
+        }
+    }
+
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+}
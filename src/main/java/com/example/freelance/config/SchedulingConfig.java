@@ -0,0 +1,14 @@
+package com.example.freelance.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping jobs. {@code spring.task.scheduling.pool.size} is kept
+ * at or above the number of jobs, so a long archive run or index rebuild never delays the outbox
+ * poll or presence expiry.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,55 @@
+package com.example.freelance.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/sqltrace}) that switches Hibernate SQL and bind-parameter
+ * logging on and off at runtime, so it does not have to be enabled permanently.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "sqltrace")
+@RequiredArgsConstructor
+public class SqlTraceEndpoint {
+
+    private static final String SQL_LOGGER = "org.hibernate.SQL";
+    private static final String BIND_LOGGER = "org.hibernate.orm.jdbc.bind";
+
+    private final LoggingSystem loggingSystem;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "sql", isEnabled(SQL_LOGGER, LogLevel.DEBUG),
+                "bindParameters", isEnabled(BIND_LOGGER, LogLevel.TRACE)
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(boolean sql, @Nullable Boolean bindParameters) {
+        boolean bind = Boolean.TRUE.equals(bindParameters);
+        loggingSystem.setLogLevel(SQL_LOGGER, sql ? LogLevel.DEBUG : LogLevel.INFO);
+        loggingSystem.setLogLevel(BIND_LOGGER, bind ? LogLevel.TRACE : LogLevel.INFO);
+        log.warn("SQL tracing changed at runtime: sql={}, bindParameters={}", sql, bind);
+        return status();
+    }
+
+    private boolean isEnabled(String loggerName, LogLevel threshold) {
+        LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(loggerName);
+        if (configuration == null || configuration.getEffectiveLevel() == null) {
+            return false;
+        }
+        return configuration.getEffectiveLevel().ordinal() <= threshold.ordinal();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.freelance.config;
+
+import com.example.freelance.common.context.RequestContext;
+import com.example.freelance.common.context.TraceIds;
+import com.example.freelance.common.util.MdcUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Establishes the trace context for a request. Honours an incoming W3C {@code traceparent} or
+ * {@code X-Trace-Id} header, otherwise generates a {@code traceparent}-compatible id, and echoes
+ * both headers on the response. Runs first so every later filter logs with the trace id.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceContextFilter extends OncePerRequestFilter {
+
+    private static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String traceId = resolveTraceId(request);
+        String spanId = TraceIds.newSpanId();
+
+        RequestContext.begin(traceId, spanId, request.getMethod(), request.getRequestURI());
+        MdcUtil.setTraceId(traceId);
+        MdcUtil.setRequestMethod(request.getMethod());
+        MdcUtil.setRequestPath(request.getRequestURI());
+
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        if (TraceIds.isTraceId(traceId)) {
+            response.setHeader(TRACEPARENT_HEADER, TraceIds.toTraceparent(traceId, spanId));
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestContext.clear();
+            MDC.clear();
+        }
+    }
+
+    private String resolveTraceId(HttpServletRequest request) {
+        String traceId = TraceIds.fromTraceparent(request.getHeader(TRACEPARENT_HEADER));
+        if (traceId != null) {
+            return traceId;
+        }
+        String externalId = request.getHeader(TRACE_ID_HEADER);
+        if (TraceIds.isAcceptableExternalId(externalId)) {
+            return externalId;
+        }
+        return TraceIds.newTraceId();
+    }
+}
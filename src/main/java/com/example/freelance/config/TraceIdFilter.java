@@ -1,48 +0,0 @@
-package com.example.freelance.config;
-
-import com.example.freelance.common.util.MdcUtil;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-import java.util.UUID;
-
-@Slf4j
-@Component
-@Order(1)
-public class TraceIdFilter extends OncePerRequestFilter {
-
-    private static final String TRACE_ID_HEADER = "X-Trace-Id";
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
-            throws ServletException, IOException {
-        try {
-            String traceId = request.getHeader(TRACE_ID_HEADER);
-            if (traceId == null || traceId.isEmpty()) {
-                traceId = generateTraceId();
-            }
-
-            MdcUtil.setTraceId(traceId);
-            MdcUtil.setRequestMethod(request.getMethod());
-            MdcUtil.setRequestPath(request.getRequestURI());
-
-            response.setHeader(TRACE_ID_HEADER, traceId);
-
-            filterChain.doFilter(request, response);
-        } finally {
-            MdcUtil.clearAll();
-        }
-    }
-
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
-    }
-}
-
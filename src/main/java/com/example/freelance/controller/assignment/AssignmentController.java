@@ -2,9 +2,11 @@ package com.example.freelance.controller.assignment;
 
 import com.example.freelance.common.dto.ApiResponse;
 import com.example.freelance.common.util.ResponseUtil;
+import com.example.freelance.dto.assignment.AssignmentDashboardResponse;
 import com.example.freelance.dto.assignment.AssignmentResponse;
 import com.example.freelance.dto.assignment.CreateAssignmentRequest;
 import com.example.freelance.dto.assignment.UpdateAssignmentRequest;
+import com.example.freelance.service.assignment.AssignmentDashboardService;
 import com.example.freelance.service.assignment.AssignmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "Bearer Authentication")
 public class AssignmentController {
     private final AssignmentService assignmentService;
+    private final AssignmentDashboardService assignmentDashboardService;
 
     @Operation(
             summary = "Create a new assignment",
@@ -84,6 +87,25 @@ public class AssignmentController {
         return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
     }
 
+    @Operation(
+            summary = "Get assignment dashboard",
+            description = "Returns the assignment together with task counts by status, escrow totals, the current user's unread message count and the assignment's reviews in one response. Access is checked once; the sections are loaded in parallel. Only the client or freelancer associated with the assignment can view it.",
+            parameters = {
+                    @Parameter(name = "id", description = "Assignment unique identifier", required = true, example = "1")
+            }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Dashboard loaded"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Not authorized for this assignment"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Assignment not found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Dashboard sections did not load in time")
+    })
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<ApiResponse<AssignmentDashboardResponse>> getAssignmentDashboard(@PathVariable Long id) {
+        AssignmentDashboardResponse response = assignmentDashboardService.getDashboard(id);
+        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+    }
+
     @Operation(
             summary = "Get assignment by project ID",
             description = "Retrieves the assignment for a specific project. Only the client or freelancer associated with the assignment can view it.",
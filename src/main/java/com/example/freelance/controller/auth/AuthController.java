@@ -4,6 +4,7 @@ import com.example.freelance.common.dto.ApiResponse;
 import com.example.freelance.common.util.ResponseUtil;
 import com.example.freelance.dto.auth.AuthResponse;
 import com.example.freelance.dto.auth.LoginRequest;
+import com.example.freelance.dto.auth.RefreshTokenRequest;
 import com.example.freelance.dto.auth.RegisterRequest;
 import com.example.freelance.service.auth.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -166,8 +167,8 @@ public class AuthController {
                     
                     **Token Usage:**
                     - Include token in `Authorization` header: `Bearer <token>`
-                    - Token expires after 24 hours (configurable)
-                    - Use `/api/auth/login` again to get a new token
+                    - Access token expires after 15 minutes (configurable)
+                    - Exchange the returned refresh token at `/api/auth/refresh` for a new token pair
                     
                     **Security Notes:**
                     - Passwords are never returned in responses
@@ -272,5 +273,52 @@ public class AuthController {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
     }
+
+    @Operation(
+            summary = "Refresh the access token",
+            description = """
+                    Exchanges a refresh token for a new access token and a new refresh token.
+                    
+                    **Rotation Rules:**
+                    - Each refresh token can be used exactly once
+                    - Presenting an already used refresh token revokes the whole session, including its access tokens
+                    - Refresh fails for suspended or banned accounts
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Refresh token",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = RefreshTokenRequest.class))
+            )
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "New token pair issued"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Refresh token invalid, expired or already used")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+    }
+
+    @Operation(
+            summary = "Log out",
+            description = """
+                    Revokes the session the refresh token belongs to. Access tokens issued for the session
+                    are rejected immediately. Unknown tokens are ignored, so the call is safe to repeat.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Refresh token of the session to end",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = RefreshTokenRequest.class))
+            )
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "Session revoked")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
 }
 
@@ -0,0 +1,78 @@
+package com.example.freelance.controller.batch;
+
+import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.util.ResponseUtil;
+import com.example.freelance.dto.batch.BatchOperationResult;
+import com.example.freelance.dto.batch.BatchRequest;
+import com.example.freelance.service.batch.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "Executes several read requests in a single round trip.")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BatchController {
+    private final BatchService batchService;
+
+    @Operation(
+            summary = "Execute a batch of GET requests",
+            description = """
+                    Runs up to `batch.max-requests` GET sub-requests against the regular API endpoints and returns
+                    their results in request order. The batch is authenticated once; every sub-request is still
+                    authorized, validated and rate limited as if it had been sent on its own. Sub-requests run
+                    concurrently, at most `batch.max-concurrency` at a time. Each result carries the status and body
+                    the standalone call would have returned, so one failing sub-request does not fail the batch.
+                    Sub-requests still running when the batch times out are reported with status 504.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Sub-requests to execute",
+                    required = true,
+                    content = @Content(
+                            schema = @Schema(implementation = BatchRequest.class),
+                            examples = @ExampleObject(
+                                    name = "Mobile cold start",
+                                    value = """
+                                            {
+                                              "requests": [
+                                                {"id": "categories", "path": "/api/categories"},
+                                                {"id": "projects", "path": "/api/projects/my?page=0&size=10"},
+                                                {"id": "conversations", "path": "/api/chat/conversations"}
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            )
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Batch executed; see each result's status"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Empty batch or too many sub-requests"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<List<BatchOperationResult>>> executeBatch(
+            @Valid @RequestBody BatchRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        List<BatchOperationResult> results = batchService.execute(request.getRequests(), httpRequest, httpResponse);
+        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(results));
+    }
+}
@@ -1,22 +1,20 @@
 package com.example.freelance.controller.chat;
 
 import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.dto.CursorPage;
 import com.example.freelance.common.util.ResponseUtil;
 import com.example.freelance.dto.chat.ConversationResponse;
 import com.example.freelance.dto.chat.CreateConversationRequest;
 import com.example.freelance.dto.chat.MessageResponse;
+import com.example.freelance.dto.chat.MessageSearchResultResponse;
 import com.example.freelance.dto.chat.SendMessageRequest;
 import com.example.freelance.service.chat.ChatService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -63,14 +61,25 @@ public class ChatController {
 
     @io.swagger.v3.oas.annotations.Operation(
             summary = "Get user's conversations",
-            description = "Retrieves all conversations for the authenticated user, including unread message counts."
+            description = """
+                    Retrieves the authenticated user's inbox, most recently active conversations first, one cursor page at a time.
+                    Each conversation carries its unread message count and a preview of its last message.
+                    Pass `nextCursor` from the previous response as `cursor` to load the next page.
+                    """,
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "cursor", description = "Cursor returned as nextCursor by the previous request"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "limit", description = "Maximum number of conversations", example = "20")
+            }
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Conversations retrieved successfully")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Conversations retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor")
     })
     @GetMapping("/conversations")
-    public ResponseEntity<ApiResponse<List<ConversationResponse>>> getMyConversations() {
-        List<ConversationResponse> response = chatService.getMyConversations();
+    public ResponseEntity<ApiResponse<CursorPage<ConversationResponse>>> getMyConversations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<ConversationResponse> response = chatService.getMyConversations(cursor, limit);
         return ResponseEntity.ok(ResponseUtil.success(response));
     }
 
@@ -124,31 +133,97 @@ public class ChatController {
     @io.swagger.v3.oas.annotations.Operation(
             summary = "Get conversation messages",
             description = """
-                    Retrieves paginated message history for a conversation.
+                    Retrieves the message history of a conversation, newest first.
                     
                     **Pagination:**
-                    - Default page size: 50
-                    - Default sort: createdAt DESC (newest first)
-                    - Messages are returned in reverse chronological order
+                    - The first request returns the newest messages
+                    - Pass `nextCursor` from a response as `cursor` to continue with older messages
+                    - `limit` defaults to 50 and is capped at 100
+                    - Old messages are restored from the archive as you page back, so those pages can take longer
+                    
+                    **Read State:**
+                    - Reading a page marks the conversation as read up to the newest message returned
+                    - `isRead` on a message tells whether its recipient has read it
                     """,
             parameters = {
                     @io.swagger.v3.oas.annotations.Parameter(name = "conversationId", description = "Conversation unique identifier", required = true, example = "1"),
-                    @io.swagger.v3.oas.annotations.Parameter(name = "page", description = "Page number (0-indexed)", example = "0"),
-                    @io.swagger.v3.oas.annotations.Parameter(name = "size", description = "Page size", example = "50"),
-                    @io.swagger.v3.oas.annotations.Parameter(name = "sort", description = "Sort field and direction", example = "createdAt,desc")
+                    @io.swagger.v3.oas.annotations.Parameter(name = "cursor", description = "Cursor returned as nextCursor by the previous request"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "limit", description = "Maximum number of messages", example = "50")
             }
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Messages retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Not a participant in this conversation"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Conversation not found")
     })
     @GetMapping("/conversations/{conversationId}/messages")
-    public ResponseEntity<ApiResponse<Page<MessageResponse>>> getConversationMessages(
+    public ResponseEntity<ApiResponse<CursorPage<MessageResponse>>> getConversationMessages(
             @PathVariable Long conversationId,
-            @PageableDefault(size = 50, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        Page<MessageResponse> response = chatService.getConversationMessages(conversationId, pageable);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<MessageResponse> response = chatService.getConversationMessages(conversationId, cursor, limit);
         return ResponseEntity.ok(ResponseUtil.success(response));
     }
-}
 
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Mark conversation as read",
+            description = """
+                    Moves the authenticated user's read watermark forward to `messageId`, or to the newest message when omitted.
+                    The watermark never moves backwards. Returns the conversation with its updated unread count.
+                    """,
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "conversationId", description = "Conversation unique identifier", required = true, example = "1"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "messageId", description = "Newest message the user has seen", example = "1042")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Conversation marked as read"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Not a participant in this conversation"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Conversation not found")
+    })
+    @PostMapping("/conversations/{conversationId}/read")
+    public ResponseEntity<ApiResponse<ConversationResponse>> markConversationRead(
+            @PathVariable Long conversationId,
+            @RequestParam(required = false) Long messageId) {
+        ConversationResponse response = chatService.markConversationRead(conversationId, messageId);
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Search messages",
+            description = """
+                    Searches the messages of the conversations the authenticated user takes part in.
+                    
+                    **Matching:**
+                    - Every word of `q` must match, and each word also matches longer words it is a prefix of
+                    - `conversationId` limits the search to one conversation; conversations you are not part of return no results
+                    - Each result carries a `snippet` with matched words wrapped in `<mark>` tags
+                    - Archived messages (older than the retention window, 180 days by default) are not searched
+                    
+                    **Pagination:**
+                    - Results are ordered newest first
+                    - Pass `nextCursor` from a response as `cursor` to continue with older messages
+                    - `limit` defaults to 20 and is capped at 50
+                    """,
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "q", description = "Search text", required = true, example = "milestone invoice"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "conversationId", description = "Only search this conversation", example = "1"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "cursor", description = "Cursor returned as nextCursor by the previous request"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "limit", description = "Maximum number of results", example = "20")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Query has no searchable words or cursor is invalid")
+    })
+    @GetMapping("/messages/search")
+    public ResponseEntity<ApiResponse<CursorPage<MessageSearchResultResponse>>> searchMessages(
+            @RequestParam String q,
+            @RequestParam(required = false) Long conversationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<MessageSearchResultResponse> response = chatService.searchMessages(q, conversationId, cursor, limit);
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.freelance.controller.chat;
+
+import com.example.freelance.service.chat.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/chat")
+@RequiredArgsConstructor
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Chat Presence", description = "Online status and typing indicators for conversation counterparts. Held in memory; nothing here writes to the database.")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "Bearer Authentication")
+public class PresenceController {
+    private final PresenceService presenceService;
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Open presence event stream",
+            description = """
+                    Opens a server-sent event stream and marks the authenticated user online.
+                    
+                    **Events:**
+                    - `status`: a counterpart came online or went offline (`userId`, `online`, `lastSeenAt`)
+                    - `typing`: a counterpart is typing in a conversation (`userId`, `conversationId`)
+                    
+                    The stream starts with a `status` event for every counterpart currently online.
+                    Send a heartbeat at least every `chat.presence.ttl-ms` while the stream is open; a user
+                    whose heartbeats stop is taken offline and their streams are closed.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(value = "/presence/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPresence() {
+        return presenceService.connect();
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Send presence heartbeat",
+            description = "Keeps the authenticated user online, bringing them online if they were not."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "Heartbeat recorded")
+    })
+    @PostMapping("/presence/heartbeat")
+    public ResponseEntity<Void> heartbeat() {
+        presenceService.heartbeat();
+        return ResponseEntity.noContent().build();
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Signal typing",
+            description = """
+                    Tells the other participant of the conversation that the authenticated user is typing.
+                    Repeated signals within `chat.presence.typing-throttle-ms` are dropped, and signals from
+                    users without an open stream or recent heartbeat are ignored.
+                    """,
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "conversationId", description = "Conversation unique identifier", required = true, example = "1")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "Typing signal accepted"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Not a participant in this conversation")
+    })
+    @PostMapping("/conversations/{conversationId}/typing")
+    public ResponseEntity<Void> typing(@PathVariable Long conversationId) {
+        presenceService.typing(conversationId);
+        return ResponseEntity.noContent().build();
+    }
+}
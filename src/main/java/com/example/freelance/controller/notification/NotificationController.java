@@ -0,0 +1,105 @@
+package com.example.freelance.controller.notification;
+
+import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.util.ResponseUtil;
+import com.example.freelance.dto.notification.NotificationResponse;
+import com.example.freelance.dto.notification.UnreadCountResponse;
+import com.example.freelance.service.notification.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Notifications", description = "Notification inbox endpoints. Replaces polling proposal lists for invitations, new bids and proposal decisions.")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "Bearer Authentication")
+public class NotificationController {
+    private final NotificationService notificationService;
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Get my notifications",
+            description = """
+                    Retrieves the authenticated user's notification inbox.
+                    
+                    **Notification Types:**
+                    - PROPOSAL_RECEIVED: A freelancer submitted a proposal to your project
+                    - INVITATION_RECEIVED: A client invited you to a project
+                    - PROPOSAL_ACCEPTED: Your proposal was accepted
+                    - PROPOSAL_REJECTED: Your proposal was rejected or another one was chosen
+                    
+                    **Pagination:**
+                    - Default page size: 20
+                    - Default sort: id DESC (newest first)
+                    """,
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "unreadOnly", description = "Only return unread notifications", example = "false"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "page", description = "Page number (0-indexed)", example = "0"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "size", description = "Page size", example = "20")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Notifications retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<NotificationResponse>>> getMyNotifications(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @PageableDefault(size = 20, sort = "id", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+        Page<NotificationResponse> response = notificationService.getMyNotifications(unreadOnly, pageable);
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Get my unread notification count",
+            description = """
+                    Returns the number of unread notifications for the authenticated user. Served from
+                    memory and intended for frequent badge polling; it may lag writes made on other
+                    instances by up to a minute.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Unread count retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<UnreadCountResponse>> getMyUnreadCount() {
+        UnreadCountResponse response = notificationService.getMyUnreadCount();
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Mark notification as read",
+            description = "Marks one of the authenticated user's notifications as read. Marking an already read notification is a no-op.",
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "id", description = "Notification ID", required = true, example = "1")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Notification marked as read"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Notification not found")
+    })
+    @PostMapping("/{id}/read")
+    public ResponseEntity<ApiResponse<NotificationResponse>> markRead(@PathVariable Long id) {
+        NotificationResponse response = notificationService.markRead(id);
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Mark all notifications as read",
+            description = "Marks every unread notification of the authenticated user as read."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Notifications marked as read"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @PostMapping("/read-all")
+    public ResponseEntity<ApiResponse<UnreadCountResponse>> markAllRead() {
+        UnreadCountResponse response = notificationService.markAllRead();
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+}
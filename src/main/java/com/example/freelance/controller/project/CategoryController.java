@@ -1,6 +1,7 @@
 package com.example.freelance.controller.project;
 
 import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.util.HttpCacheUtil;
 import com.example.freelance.common.util.ResponseUtil;
 import com.example.freelance.dto.project.CategoryResponse;
 import com.example.freelance.service.project.CategoryService;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -34,18 +36,26 @@ public class CategoryController {
                     - Get categories for project creation dropdown
                     - Filter projects by category
                     - Display category information
+                    
+                    **Caching:**
+                    Responses carry a weak `ETag` and may be cached by any cache for five minutes.
+                    Send the ETag in `If-None-Match` to receive `304 Not Modified` when nothing changed.
                     """
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "Categories retrieved successfully"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Not Modified - Categories match the ETag sent in If-None-Match"
             )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
-        List<CategoryResponse> response = categoryService.getAllCategories();
-        return ResponseEntity.ok(ResponseUtil.success(response));
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories(WebRequest webRequest) {
+        return HttpCacheUtil.conditionalGet(webRequest, categoryService.getAllCategoriesValidators(),
+                HttpCacheUtil.PUBLIC_REFERENCE_DATA, () -> ResponseUtil.success(categoryService.getAllCategories()));
     }
 }
 
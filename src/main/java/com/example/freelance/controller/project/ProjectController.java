@@ -1,15 +1,19 @@
 package com.example.freelance.controller.project;
 
 import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.util.HttpCacheUtil;
 import com.example.freelance.common.util.ResponseUtil;
 import com.example.freelance.domain.project.ProjectStatus;
 import com.example.freelance.dto.project.CreateProjectRequest;
 import com.example.freelance.dto.project.InviteFreelancerRequest;
 import com.example.freelance.dto.project.ProjectResponse;
+import com.example.freelance.dto.project.RecommendedFreelancerResponse;
+import com.example.freelance.dto.project.RecommendedProjectResponse;
 import com.example.freelance.dto.project.UpdateProjectRequest;
 import com.example.freelance.dto.proposal.ProposalResponse;
 import com.example.freelance.service.project.ProjectService;
 import com.example.freelance.service.proposal.ProposalService;
+import com.example.freelance.service.recommendation.RecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +31,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -36,6 +43,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProjectController {
     private final ProjectService projectService;
     private final ProposalService proposalService;
+    private final RecommendationService recommendationService;
 
     @Operation(
             summary = "Create a new project",
@@ -226,13 +234,15 @@ public class ProjectController {
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Project found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified - The project matches the ETag sent in If-None-Match"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Trying to access draft project of another user"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Project not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProjectResponse>> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ProjectResponse>> getProjectById(@PathVariable Long id, WebRequest webRequest) {
         ProjectResponse response = projectService.getProjectById(id);
-        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+        return HttpCacheUtil.conditionalGet(webRequest, projectService.getValidators(response),
+                HttpCacheUtil.PRIVATE_REVALIDATE, () -> ResponseUtil.successWithTimestamp(response));
     }
 
     @Operation(
@@ -269,6 +279,12 @@ public class ProjectController {
                     Searches for projects with optional filters. Available to all authenticated users.
                     By default, only OPEN projects are included in search results (unless status is specified).
                     
+                    **Text Search:**
+                    - `q`: Words matched against project titles and descriptions. Every word must match, and each word also matches longer words it is a prefix of (`reac` finds `React`)
+                    - Title matches rank above description matches
+                    - Text results are ordered by relevance; `sort` is ignored
+                    - Each result carries `searchRank` and a `searchSnippet` with matched words wrapped in `<mark>` tags
+                    
                     **Search Filters:**
                     - `status`: Filter by project status. Valid values: `DRAFT`, `OPEN`, `IN_PROGRESS`, `COMPLETED`, `CANCELLED`, `CLOSED`. Default: `OPEN` (if not specified)
                     - `categoryId`: Filter by category
@@ -279,8 +295,10 @@ public class ProjectController {
                     **Pagination:**
                     - Default page size: 20
                     - Default sort: createdAt DESC
+                    - Sort by competition with `proposalStats.pendingCount` or by recent activity with `proposalStats.lastProposalAt`
                     """,
             parameters = {
+                    @Parameter(name = "q", description = "Search text matched against titles and descriptions", example = "react developer"),
                     @Parameter(name = "status", description = "Project status filter. Valid values: DRAFT, OPEN, IN_PROGRESS, COMPLETED, CANCELLED, CLOSED", example = "OPEN"),
                     @Parameter(name = "categoryId", description = "Category ID filter", example = "1"),
                     @Parameter(name = "minBudget", description = "Minimum budget filter", example = "1000.00"),
@@ -292,17 +310,83 @@ public class ProjectController {
             }
     )
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified - The result page matches the ETag sent in If-None-Match")
     })
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<ProjectResponse>>> searchProjects(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) ProjectStatus status,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) java.math.BigDecimal minBudget,
             @RequestParam(required = false) java.math.BigDecimal maxBudget,
             @RequestParam(required = false) java.util.List<Long> tagIds,
-            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        Page<ProjectResponse> response = projectService.searchProjects(status, categoryId, minBudget, maxBudget, tagIds, pageable);
+            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        Page<ProjectResponse> response = projectService.searchProjects(q, status, categoryId, minBudget, maxBudget, tagIds, pageable);
+        return HttpCacheUtil.conditionalGet(webRequest, projectService.getValidators(response),
+                HttpCacheUtil.PRIVATE_REVALIDATE, () -> ResponseUtil.success(response));
+    }
+
+    @Operation(
+            summary = "Get recommended projects",
+            description = """
+                    Returns the open projects that best match the authenticated freelancer's profile.
+                    
+                    **Scoring:**
+                    - Skill/tag overlap with TF-IDF weighting (rare skills count more)
+                    - Budget fit: how many hours of the freelancer's hourly rate the budget covers
+                    - Freelancer rating
+                    
+                    Only projects sharing at least one skill with the profile are returned. Projects the
+                    freelancer already has a proposal on and the freelancer's own projects are excluded.
+                    Served from an in-memory index; profile changes are reflected immediately.
+                    """,
+            parameters = {
+                    @Parameter(name = "limit", description = "Maximum number of recommendations (1-50)", example = "10")
+            }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Recommendations retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Only freelancers can get project recommendations")
+    })
+    @GetMapping("/recommended")
+    @PreAuthorize("hasRole('FREELANCER')")
+    public ResponseEntity<ApiResponse<List<RecommendedProjectResponse>>> getRecommendedProjects(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<RecommendedProjectResponse> response = recommendationService.getRecommendedProjects(limit);
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+
+    @Operation(
+            summary = "Get recommended freelancers for a project",
+            description = """
+                    Returns the freelancers that best match a project, for the project owner to invite.
+                    Works for draft and open projects.
+                    
+                    **Scoring:**
+                    - Skill/tag overlap with TF-IDF weighting (rare tags count more)
+                    - Budget fit: how many hours of the freelancer's hourly rate the budget covers
+                    - Freelancer rating
+                    
+                    Freelancers who already have a proposal on the project are excluded.
+                    """,
+            parameters = {
+                    @Parameter(name = "id", description = "Project ID", required = true, example = "1"),
+                    @Parameter(name = "limit", description = "Maximum number of recommendations (1-50)", example = "10")
+            }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Recommendations retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Not the project owner"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @GetMapping("/{id}/recommended-freelancers")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<ApiResponse<List<RecommendedFreelancerResponse>>> getRecommendedFreelancers(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<RecommendedFreelancerResponse> response = recommendationService.getRecommendedFreelancers(id, limit);
         return ResponseEntity.ok(ResponseUtil.success(response));
     }
 
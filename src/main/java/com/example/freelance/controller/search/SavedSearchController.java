@@ -0,0 +1,121 @@
+package com.example.freelance.controller.search;
+
+import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.util.ResponseUtil;
+import com.example.freelance.dto.search.CreateSavedSearchRequest;
+import com.example.freelance.dto.search.SavedSearchMatchResponse;
+import com.example.freelance.dto.search.SavedSearchResponse;
+import com.example.freelance.service.search.SavedSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Saved Searches", description = "Saved project searches. Newly published projects are matched against saved searches once and delivered to the user's feed.")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "Bearer Authentication")
+public class SavedSearchController {
+    private final SavedSearchService savedSearchService;
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Save a project search",
+            description = """
+                    Saves a project search filter. Every project published afterwards that matches the filter
+                    is added to the user's feed.
+                    
+                    **Matching Rules (same as project search):**
+                    - categoryId: project must be in the category
+                    - minBudget / maxBudget: project budget range must overlap the filter range
+                    - tagIds: project must have at least one of the tags
+                    - Omitted filters match everything
+                    - Your own projects are never matched
+                    
+                    **Limits:**
+                    - Up to 20 saved searches per user (configurable)
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Saved search details",
+                    required = true,
+                    content = @io.swagger.v3.oas.annotations.media.Content(
+                            schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = CreateSavedSearchRequest.class)
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Saved search created"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Bad Request - Invalid filters or saved search limit reached"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<SavedSearchResponse>> createSavedSearch(@Valid @RequestBody CreateSavedSearchRequest request) {
+        SavedSearchResponse response = savedSearchService.createSavedSearch(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ResponseUtil.successWithTimestamp(response));
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Get my saved searches",
+            description = "Retrieves all saved searches of the authenticated user, oldest first."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Saved searches retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SavedSearchResponse>>> getMySavedSearches() {
+        List<SavedSearchResponse> response = savedSearchService.getMySavedSearches();
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Delete a saved search",
+            description = "Deletes one of the authenticated user's saved searches together with the feed entries it produced.",
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "id", description = "Saved search ID", required = true, example = "1")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "Saved search deleted"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Saved search not found")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "Get my saved search feed",
+            description = """
+                    Retrieves projects that matched the authenticated user's saved searches when they were
+                    published. Each project appears at most once, attributed to the first matching search.
+                    
+                    **Pagination:**
+                    - Default page size: 20
+                    - Default sort: id DESC (newest first)
+                    """,
+            parameters = {
+                    @io.swagger.v3.oas.annotations.Parameter(name = "page", description = "Page number (0-indexed)", example = "0"),
+                    @io.swagger.v3.oas.annotations.Parameter(name = "size", description = "Page size", example = "20")
+            }
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Feed retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<Page<SavedSearchMatchResponse>>> getMyFeed(
+            @PageableDefault(size = 20, sort = "id", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+        Page<SavedSearchMatchResponse> response = savedSearchService.getMyFeed(pageable);
+        return ResponseEntity.ok(ResponseUtil.success(response));
+    }
+}
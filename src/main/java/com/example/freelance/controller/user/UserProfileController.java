@@ -1,6 +1,7 @@
 package com.example.freelance.controller.user;
 
 import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.util.HttpCacheUtil;
 import com.example.freelance.common.util.ResponseUtil;
 import com.example.freelance.dto.user.ClientProfileResponse;
 import com.example.freelance.dto.user.FreelancerProfileResponse;
@@ -15,6 +16,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -33,14 +35,16 @@ public class UserProfileController {
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified - The profile matches the ETag sent in If-None-Match"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Only freelancers can view their profile"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Profile not found")
     })
     @GetMapping("/freelancer/me")
     @PreAuthorize("hasRole('FREELANCER')")
-    public ResponseEntity<ApiResponse<FreelancerProfileResponse>> getMyFreelancerProfile() {
-        FreelancerProfileResponse response = userProfileService.getMyFreelancerProfile();
-        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+    public ResponseEntity<ApiResponse<FreelancerProfileResponse>> getMyFreelancerProfile(WebRequest webRequest) {
+        return HttpCacheUtil.conditionalGet(webRequest, userProfileService.getMyFreelancerProfileValidators(),
+                HttpCacheUtil.PRIVATE_REVALIDATE,
+                () -> ResponseUtil.successWithTimestamp(userProfileService.getMyFreelancerProfile()));
     }
 
     @io.swagger.v3.oas.annotations.Operation(
@@ -52,12 +56,14 @@ public class UserProfileController {
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified - The profile matches the ETag sent in If-None-Match"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Profile not found")
     })
     @GetMapping("/freelancer/{userId}")
-    public ResponseEntity<ApiResponse<FreelancerProfileResponse>> getFreelancerProfile(@PathVariable Long userId) {
-        FreelancerProfileResponse response = userProfileService.getFreelancerProfile(userId);
-        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+    public ResponseEntity<ApiResponse<FreelancerProfileResponse>> getFreelancerProfile(@PathVariable Long userId, WebRequest webRequest) {
+        return HttpCacheUtil.conditionalGet(webRequest, userProfileService.getFreelancerProfileValidators(userId),
+                HttpCacheUtil.PRIVATE_REVALIDATE,
+                () -> ResponseUtil.successWithTimestamp(userProfileService.getFreelancerProfile(userId)));
     }
 
     @io.swagger.v3.oas.annotations.Operation(
@@ -102,14 +108,16 @@ public class UserProfileController {
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified - The profile matches the ETag sent in If-None-Match"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - Only clients can view their profile"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Profile not found")
     })
     @GetMapping("/client/me")
     @PreAuthorize("hasRole('CLIENT')")
-    public ResponseEntity<ApiResponse<ClientProfileResponse>> getMyClientProfile() {
-        ClientProfileResponse response = userProfileService.getMyClientProfile();
-        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+    public ResponseEntity<ApiResponse<ClientProfileResponse>> getMyClientProfile(WebRequest webRequest) {
+        return HttpCacheUtil.conditionalGet(webRequest, userProfileService.getMyClientProfileValidators(),
+                HttpCacheUtil.PRIVATE_REVALIDATE,
+                () -> ResponseUtil.successWithTimestamp(userProfileService.getMyClientProfile()));
     }
 
     @io.swagger.v3.oas.annotations.Operation(
@@ -121,12 +129,14 @@ public class UserProfileController {
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Not Modified - The profile matches the ETag sent in If-None-Match"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Profile not found")
     })
     @GetMapping("/client/{userId}")
-    public ResponseEntity<ApiResponse<ClientProfileResponse>> getClientProfile(@PathVariable Long userId) {
-        ClientProfileResponse response = userProfileService.getClientProfile(userId);
-        return ResponseEntity.ok(ResponseUtil.successWithTimestamp(response));
+    public ResponseEntity<ApiResponse<ClientProfileResponse>> getClientProfile(@PathVariable Long userId, WebRequest webRequest) {
+        return HttpCacheUtil.conditionalGet(webRequest, userProfileService.getClientProfileValidators(userId),
+                HttpCacheUtil.PRIVATE_REVALIDATE,
+                () -> ResponseUtil.successWithTimestamp(userProfileService.getClientProfile(userId)));
     }
 
     @io.swagger.v3.oas.annotations.Operation(
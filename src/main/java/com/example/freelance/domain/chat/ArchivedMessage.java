@@ -0,0 +1,28 @@
+package com.example.freelance.domain.chat;
+
+import java.time.Instant;
+
+/**
+ * The stored form of a {@link Message} inside a {@link MessageArchive}, keeping its original id
+ * and timestamps so it reads back unchanged.
+ */
+public record ArchivedMessage(
+        Long id,
+        Long senderId,
+        String text,
+        String attachmentPath,
+        String attachmentName,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    public static ArchivedMessage of(Message message) {
+        return new ArchivedMessage(
+                message.getId(),
+                message.getSender().getId(),
+                message.getText(),
+                message.getAttachmentPath(),
+                message.getAttachmentName(),
+                message.getCreatedAt(),
+                message.getUpdatedAt());
+    }
+}
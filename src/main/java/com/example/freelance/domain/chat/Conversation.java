@@ -10,6 +10,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "conversations", uniqueConstraints = {
@@ -36,5 +39,29 @@ public class Conversation extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "freelancer_id", nullable = false)
     private FreelancerProfile freelancer;
-}
 
+    /**
+     * Denormalized copy of the newest message, maintained by {@code ConversationInboxService} so the
+     * inbox can render without touching {@code messages}.
+     */
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at")
+    private Instant lastMessageAt;
+
+    @Column(name = "last_message_preview", length = 255)
+    private String lastMessagePreview;
+
+    /**
+     * Read watermarks: the id of the newest message each participant has seen. Messages from the
+     * other participant with a higher id are unread.
+     */
+    @ColumnDefault("0")
+    @Column(name = "client_last_read_message_id", nullable = false)
+    private Long clientLastReadMessageId = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "freelancer_last_read_message_id", nullable = false)
+    private Long freelancerLastReadMessageId = 0L;
+}
@@ -0,0 +1,37 @@
+package com.example.freelance.domain.chat;
+
+import com.example.freelance.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Membership of a user in a conversation, one row per participant. {@code lastActivityAt} mirrors
+ * the conversation's last message time (or creation time before the first message), so a user's
+ * inbox is a single range scan of {@code (user_id, last_activity_at, conversation_id)}.
+ */
+@Entity
+@Table(name = "conversation_participants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_conversation_participants_conversation_user", columnNames = {"conversation_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_conversation_participants_inbox", columnList = "user_id, last_activity_at, conversation_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationParticipant extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conversation_id", nullable = false)
+    private Conversation conversation;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private Instant lastActivityAt;
+}
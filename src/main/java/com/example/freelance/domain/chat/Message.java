@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        @Index(name = "idx_messages_conversation_created_at", columnList = "conversation_id, created_at, id"),
+        @Index(name = "idx_messages_conversation_id_sender", columnList = "conversation_id, id, sender_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,8 +34,5 @@ public class Message extends BaseEntity {
 
     @Column(name = "attachment_name")
     private String attachmentName;
-
-    @Column(name = "is_read", nullable = false)
-    private Boolean isRead = false;
 }
 
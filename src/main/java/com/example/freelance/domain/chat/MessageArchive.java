@@ -0,0 +1,41 @@
+package com.example.freelance.domain.chat;
+
+import com.example.freelance.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * One calendar month of a conversation's messages, moved out of {@code messages} as a gzip
+ * compressed JSON array of {@link ArchivedMessage}. {@code messageCount} only grows, so it
+ * doubles as the version of the payload.
+ */
+@Entity
+@Table(name = "message_archives", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_message_archives_conversation_period", columnNames = {"conversation_id", "period_start"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageArchive extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conversation_id", nullable = false)
+    private Conversation conversation;
+
+    @Column(name = "period_start", nullable = false)
+    private Instant periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private Instant periodEnd;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "payload", nullable = false, length = 64 * 1024 * 1024)
+    private byte[] payload;
+}
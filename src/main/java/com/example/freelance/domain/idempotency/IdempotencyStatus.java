@@ -0,0 +1,6 @@
+package com.example.freelance.domain.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,68 @@
+package com.example.freelance.domain.notification;
+
+import com.example.freelance.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+
+/**
+ * An entry in a user's notification inbox. Rows are written in bulk by {@code NotificationService};
+ * {@code deliveredAt} is set once the entry has gone out in a digest. Failed digests are retried
+ * at {@code nextDeliveryAt}; {@code deliveryFailedAt} marks an entry that ran out of attempts.
+ */
+@Entity
+@Table(name = "notifications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notifications_source_recipient", columnNames = {"source_event_id", "recipient_id"})
+}, indexes = {
+        @Index(name = "idx_notifications_recipient_id", columnList = "recipient_id, id"),
+        @Index(name = "idx_notifications_recipient_unread", columnList = "recipient_id, read_at"),
+        @Index(name = "idx_notifications_undelivered", columnList = "delivered_at, delivery_failed_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Notification extends BaseEntity {
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String body;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "proposal_id")
+    private Long proposalId;
+
+    @Column(name = "source_event_id", nullable = false)
+    private Long sourceEventId;
+
+    @Column(name = "read_at")
+    private Instant readAt;
+
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+
+    @ColumnDefault("0")
+    @Column(name = "delivery_attempts", nullable = false)
+    private Integer deliveryAttempts = 0;
+
+    @Column(name = "next_delivery_at")
+    private Instant nextDeliveryAt;
+
+    @Column(name = "delivery_failed_at")
+    private Instant deliveryFailedAt;
+}
@@ -0,0 +1,8 @@
+package com.example.freelance.domain.notification;
+
+public enum NotificationType {
+    PROPOSAL_RECEIVED,
+    INVITATION_RECEIVED,
+    PROPOSAL_ACCEPTED,
+    PROPOSAL_REJECTED
+}
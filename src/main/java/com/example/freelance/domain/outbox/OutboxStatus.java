@@ -0,0 +1,7 @@
+package com.example.freelance.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSED,
+    FAILED
+}
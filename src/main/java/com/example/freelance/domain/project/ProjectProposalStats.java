@@ -0,0 +1,52 @@
+package com.example.freelance.domain.project;
+
+import com.example.freelance.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Proposal counters and bid statistics for a project, maintained incrementally by
+ * {@code ProjectProposalStatsService}. Bid figures cover all proposals that were not withdrawn.
+ */
+@Entity
+@Table(name = "project_proposal_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectProposalStats extends BaseEntity {
+    @Column(name = "pending_count", nullable = false)
+    private Integer pendingCount = 0;
+
+    @Column(name = "accepted_count", nullable = false)
+    private Integer acceptedCount = 0;
+
+    @Column(name = "rejected_count", nullable = false)
+    private Integer rejectedCount = 0;
+
+    @Column(name = "withdrawn_count", nullable = false)
+    private Integer withdrawnCount = 0;
+
+    @Column(name = "bid_count", nullable = false)
+    private Integer bidCount = 0;
+
+    @Column(name = "bid_sum", precision = 14, scale = 2, nullable = false)
+    private BigDecimal bidSum = BigDecimal.ZERO;
+
+    @Column(name = "min_bid", precision = 12, scale = 2)
+    private BigDecimal minBid;
+
+    @Column(name = "max_bid", precision = 12, scale = 2)
+    private BigDecimal maxBid;
+
+    @Column(name = "last_proposal_at")
+    private Instant lastProposalAt;
+}
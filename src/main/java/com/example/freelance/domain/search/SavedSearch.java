@@ -0,0 +1,46 @@
+package com.example.freelance.domain.search;
+
+import com.example.freelance.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A project search filter a user wants to follow. Newly published projects are matched against
+ * it by {@code SavedSearchIndex} and matches land in the user's feed.
+ */
+@Entity
+@Table(name = "saved_searches", indexes = {
+        @Index(name = "idx_saved_searches_user_id", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch extends BaseEntity {
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "min_budget", precision = 12, scale = 2)
+    private BigDecimal minBudget;
+
+    @Column(name = "max_budget", precision = 12, scale = 2)
+    private BigDecimal maxBudget;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "saved_search_tags", joinColumns = @JoinColumn(name = "saved_search_id"))
+    @Column(name = "tag_id", nullable = false)
+    private Set<Long> tagIds = new HashSet<>();
+}
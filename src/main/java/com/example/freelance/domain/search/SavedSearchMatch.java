@@ -0,0 +1,37 @@
+package com.example.freelance.domain.search;
+
+import com.example.freelance.common.domain.BaseEntity;
+import com.example.freelance.domain.project.Project;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A feed entry: a published project that matched one of the user's saved searches. A project
+ * appears at most once per user, attributed to the first search that matched it.
+ */
+@Entity
+@Table(name = "saved_search_matches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saved_search_matches_user_project", columnNames = {"user_id", "project_id"})
+}, indexes = {
+        @Index(name = "idx_saved_search_matches_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_saved_search_matches_saved_search_id", columnList = "saved_search_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatch extends BaseEntity {
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    private SavedSearch savedSearch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+}
@@ -0,0 +1,50 @@
+package com.example.freelance.dto.assignment;
+
+import com.example.freelance.domain.task.TaskStatus;
+import com.example.freelance.dto.review.ReviewResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Everything a contract dashboard needs for one assignment, loaded in a single call")
+public class AssignmentDashboardResponse {
+    @Schema(description = "The assignment itself")
+    private AssignmentResponse assignment;
+
+    @Schema(description = "Number of tasks per status; every status is present", example = "{\"TODO\": 3, \"IN_PROGRESS\": 1, \"COMPLETED\": 5, \"BLOCKED\": 0}")
+    private Map<TaskStatus, Long> taskCounts;
+
+    @Schema(description = "Total number of tasks", example = "9")
+    private Long totalTasks;
+
+    @Schema(description = "Sum of completed escrow deposits", example = "5000.00")
+    private BigDecimal escrowedAmount;
+
+    @Schema(description = "Sum of completed releases to the freelancer", example = "3000.00")
+    private BigDecimal releasedAmount;
+
+    @Schema(description = "Sum of completed refunds to the client", example = "0.00")
+    private BigDecimal refundedAmount;
+
+    @Schema(description = "Sum of completed bonuses", example = "250.00")
+    private BigDecimal bonusAmount;
+
+    @Schema(description = "Escrowed amount that can still be released", example = "2000.00")
+    private BigDecimal availableInEscrow;
+
+    @Schema(description = "Unread messages for the current user in the assignment's conversation", example = "4")
+    private Long unreadMessages;
+
+    @Schema(description = "Most recent reviews left on this assignment, capped by assignment.dashboard.max-reviews")
+    private List<ReviewResponse> reviews;
+}
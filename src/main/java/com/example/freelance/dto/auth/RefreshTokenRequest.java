@@ -0,0 +1,18 @@
+package com.example.freelance.dto.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO carrying a refresh token")
+public class RefreshTokenRequest {
+    @NotBlank(message = "Refresh token is required")
+    @Schema(description = "Refresh token returned by login, register or a previous refresh", 
+            example = "q3ZfJm0tY8k2Xw6cR1pV9sN4bH7dL5eA0uG3iT8oKzE")
+    private String refreshToken;
+}
@@ -0,0 +1,26 @@
+package com.example.freelance.dto.batch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A single sub-request inside a batch")
+public class BatchOperation {
+    @Size(max = 64, message = "Request id must not exceed 64 characters")
+    @Schema(description = "Client-chosen id echoed back in the result; defaults to the request's index", example = "profile")
+    private String id;
+
+    @Schema(description = "HTTP method; only GET is supported", example = "GET", defaultValue = "GET")
+    private String method;
+
+    @NotBlank(message = "Path is required")
+    @Size(max = 2048, message = "Path must not exceed 2048 characters")
+    @Schema(description = "API path including an optional query string", example = "/api/projects/my?page=0&size=10")
+    private String path;
+}
@@ -0,0 +1,24 @@
+package com.example.freelance.dto.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single sub-request inside a batch")
+public class BatchOperationResult {
+    @Schema(description = "Id of the sub-request", example = "profile")
+    private String id;
+
+    @Schema(description = "HTTP status the sub-request would have returned on its own", example = "200")
+    private Integer status;
+
+    @Schema(description = "Response body the sub-request would have returned on its own, usually an ApiResponse")
+    private JsonNode body;
+}
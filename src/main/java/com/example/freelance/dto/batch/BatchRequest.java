@@ -0,0 +1,21 @@
+package com.example.freelance.dto.batch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for executing several read requests in one round trip")
+public class BatchRequest {
+    @NotEmpty(message = "At least one request is required")
+    @Valid
+    @Schema(description = "Sub-requests to execute; results are returned in the same order")
+    private List<BatchOperation> requests;
+}
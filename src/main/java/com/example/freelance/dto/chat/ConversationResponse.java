@@ -22,6 +22,12 @@ public class ConversationResponse {
     private String freelancerEmail;
     private String freelancerDisplayName;
     private Long unreadCount;
+    private Long lastReadMessageId;
+    private Long counterpartLastReadMessageId;
+    private Long lastMessageId;
+    private Instant lastMessageAt;
+    private String lastMessagePreview;
+    private Instant lastActivityAt;
     private Instant createdAt;
     private Instant updatedAt;
 }
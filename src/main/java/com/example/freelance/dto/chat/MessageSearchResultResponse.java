@@ -0,0 +1,24 @@
+package com.example.freelance.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchResultResponse {
+    private Long messageId;
+    private Long conversationId;
+    private Long senderId;
+    private String senderEmail;
+    /**
+     * HTML-escaped excerpt of the message with matched words wrapped in {@code <mark>} tags.
+     */
+    private String snippet;
+    private Instant createdAt;
+}
@@ -0,0 +1,26 @@
+package com.example.freelance.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceEvent {
+    private Type type;
+    private Long userId;
+    private Long conversationId;
+    private Boolean online;
+    private Instant lastSeenAt;
+    private Instant occurredAt;
+
+    public enum Type {
+        STATUS,
+        TYPING
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.freelance.dto.notification;
+
+import com.example.freelance.domain.notification.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private Long id;
+    private NotificationType type;
+    private String title;
+    private String body;
+    private Long projectId;
+    private Long proposalId;
+    private boolean read;
+    private Instant readAt;
+    private Instant createdAt;
+}
@@ -0,0 +1,47 @@
+package com.example.freelance.dto.project;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Proposal counters and bid statistics for a project")
+public class ProjectProposalStatsResponse {
+    @Schema(description = "Number of pending proposals", example = "7")
+    private Integer pendingCount;
+
+    @Schema(description = "Number of accepted proposals", example = "0")
+    private Integer acceptedCount;
+
+    @Schema(description = "Number of rejected proposals", example = "2")
+    private Integer rejectedCount;
+
+    @Schema(description = "Number of withdrawn proposals", example = "1")
+    private Integer withdrawnCount;
+
+    @Schema(description = "Total number of proposals ever submitted", example = "10")
+    private Integer totalCount;
+
+    @Schema(description = "Lowest bid among proposals that were not withdrawn", example = "4500.00")
+    private BigDecimal minBid;
+
+    @Schema(description = "Highest bid among proposals that were not withdrawn", example = "9800.00")
+    private BigDecimal maxBid;
+
+    @Schema(description = "Average bid among proposals that were not withdrawn", example = "7150.00")
+    private BigDecimal averageBid;
+
+    @Schema(description = "Timestamp of the most recent proposal", example = "2024-01-20T14:05:00Z")
+    private Instant lastProposalAt;
+
+    @Schema(description = "Timestamp of the last change to these statistics", example = "2024-01-20T14:05:00Z")
+    private Instant updatedAt;
+}
@@ -1,6 +1,7 @@
 package com.example.freelance.dto.project;
 
 import com.example.freelance.domain.project.ProjectStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -56,10 +57,22 @@ public class ProjectResponse {
     @Schema(description = "Project status", example = "OPEN", allowableValues = {"DRAFT", "OPEN", "IN_PROGRESS", "COMPLETED", "CANCELLED", "CLOSED"})
     private ProjectStatus status;
     
+    @Schema(description = "Proposal counters and bid statistics")
+    private ProjectProposalStatsResponse proposalStats;
+    
     @Schema(description = "Project creation timestamp", example = "2024-01-15T10:30:00Z")
     private Instant createdAt;
     
     @Schema(description = "Last update timestamp", example = "2024-01-15T10:30:00Z")
     private Instant updatedAt;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Relevance to the search text; only present for text searches", example = "0.42")
+    private Double searchRank;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "HTML-escaped description excerpt with matched words wrapped in <mark> tags; only present for text searches",
+            example = "Looking for an experienced <mark>react</mark> developer...")
+    private String searchSnippet;
 }
 
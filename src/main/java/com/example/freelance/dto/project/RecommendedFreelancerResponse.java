@@ -0,0 +1,24 @@
+package com.example.freelance.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedFreelancerResponse {
+    private Long freelancerId;
+    private Long userId;
+    private String displayName;
+    private BigDecimal hourlyRate;
+    private String currency;
+    private BigDecimal rating;
+    private double score;
+    private List<String> matchedSkills;
+}
@@ -0,0 +1,23 @@
+package com.example.freelance.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedProjectResponse {
+    private Long projectId;
+    private String title;
+    private BigDecimal budgetMin;
+    private BigDecimal budgetMax;
+    private String currency;
+    private double score;
+    private List<String> matchedTags;
+}
@@ -0,0 +1,38 @@
+package com.example.freelance.dto.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for saving a project search")
+public class CreateSavedSearchRequest {
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    @Schema(description = "Display name of the saved search", example = "React projects over $5k", maxLength = 100)
+    private String name;
+
+    @Schema(description = "Category ID filter (optional)", example = "1")
+    private Long categoryId;
+
+    @Positive(message = "Minimum budget must be positive")
+    @Schema(description = "Minimum budget filter (optional)", example = "5000.00")
+    private BigDecimal minBudget;
+
+    @Positive(message = "Maximum budget must be positive")
+    @Schema(description = "Maximum budget filter (optional)", example = "20000.00")
+    private BigDecimal maxBudget;
+
+    @Size(max = 20, message = "At most 20 tags can be saved")
+    @Schema(description = "Tag IDs filter; projects must have at least one of them (optional)", example = "[1, 2]")
+    private List<Long> tagIds;
+}
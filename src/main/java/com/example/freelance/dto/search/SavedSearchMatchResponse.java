@@ -0,0 +1,27 @@
+package com.example.freelance.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatchResponse {
+    private Long id;
+    private Long savedSearchId;
+    private String savedSearchName;
+    private Long projectId;
+    private String projectTitle;
+    private String projectStatus;
+    private BigDecimal projectBudgetMin;
+    private BigDecimal projectBudgetMax;
+    private String projectCurrency;
+    private String projectCategoryName;
+    private Instant matchedAt;
+}
@@ -0,0 +1,24 @@
+package com.example.freelance.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchResponse {
+    private Long id;
+    private String name;
+    private Long categoryId;
+    private BigDecimal minBudget;
+    private BigDecimal maxBudget;
+    private Set<Long> tagIds;
+    private Instant createdAt;
+}
@@ -17,6 +17,9 @@ public interface ConversationMapper {
     @Mapping(target = "freelancerEmail", source = "freelancer.user.email")
     @Mapping(target = "freelancerDisplayName", source = "freelancer.displayName")
     @Mapping(target = "unreadCount", ignore = true)
+    @Mapping(target = "lastReadMessageId", ignore = true)
+    @Mapping(target = "counterpartLastReadMessageId", ignore = true)
+    @Mapping(target = "lastActivityAt", ignore = true)
     ConversationResponse toResponse(Conversation conversation);
 }
 
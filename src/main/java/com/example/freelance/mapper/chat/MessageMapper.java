@@ -11,6 +11,7 @@ public interface MessageMapper {
     @Mapping(target = "conversationId", source = "conversation.id")
     @Mapping(target = "senderId", source = "sender.id")
     @Mapping(target = "senderEmail", source = "sender.email")
+    @Mapping(target = "isRead", ignore = true)
     MessageResponse toResponse(Message message);
 }
 
@@ -0,0 +1,13 @@
+package com.example.freelance.mapper.notification;
+
+import com.example.freelance.domain.notification.Notification;
+import com.example.freelance.dto.notification.NotificationResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface NotificationMapper {
+
+    @Mapping(target = "read", expression = "java(notification.getReadAt() != null)")
+    NotificationResponse toResponse(Notification notification);
+}
@@ -1,12 +1,16 @@
 package com.example.freelance.mapper.project;
 
 import com.example.freelance.domain.project.Project;
+import com.example.freelance.domain.project.ProjectProposalStats;
 import com.example.freelance.domain.project.Tag;
+import com.example.freelance.dto.project.ProjectProposalStatsResponse;
 import com.example.freelance.dto.project.ProjectResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
@@ -17,6 +21,8 @@ public interface ProjectMapper {
     @Mapping(target = "categoryId", source = "category.id", nullValuePropertyMappingStrategy = org.mapstruct.NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "categoryName", source = "category.name", nullValuePropertyMappingStrategy = org.mapstruct.NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "tagNames", source = "tags", qualifiedByName = "tagsToNames")
+    @Mapping(target = "searchRank", ignore = true)
+    @Mapping(target = "searchSnippet", ignore = true)
     ProjectResponse toResponse(Project project);
 
     @Named("tagsToNames")
@@ -28,5 +34,27 @@ public interface ProjectMapper {
                 .map(Tag::getName)
                 .toList();
     }
+
+    default ProjectProposalStatsResponse toProposalStatsResponse(ProjectProposalStats stats) {
+        if (stats == null) {
+            return null;
+        }
+        BigDecimal averageBid = stats.getBidCount() > 0
+                ? stats.getBidSum().divide(BigDecimal.valueOf(stats.getBidCount()), 2, RoundingMode.HALF_UP)
+                : null;
+        return ProjectProposalStatsResponse.builder()
+                .pendingCount(stats.getPendingCount())
+                .acceptedCount(stats.getAcceptedCount())
+                .rejectedCount(stats.getRejectedCount())
+                .withdrawnCount(stats.getWithdrawnCount())
+                .totalCount(stats.getPendingCount() + stats.getAcceptedCount()
+                        + stats.getRejectedCount() + stats.getWithdrawnCount())
+                .minBid(stats.getMinBid())
+                .maxBid(stats.getMaxBid())
+                .averageBid(averageBid)
+                .lastProposalAt(stats.getLastProposalAt())
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
 }
 
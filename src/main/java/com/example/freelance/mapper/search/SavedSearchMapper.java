@@ -0,0 +1,26 @@
+package com.example.freelance.mapper.search;
+
+import com.example.freelance.domain.search.SavedSearch;
+import com.example.freelance.domain.search.SavedSearchMatch;
+import com.example.freelance.dto.search.SavedSearchMatchResponse;
+import com.example.freelance.dto.search.SavedSearchResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface SavedSearchMapper {
+
+    SavedSearchResponse toResponse(SavedSearch savedSearch);
+
+    @Mapping(target = "savedSearchId", source = "savedSearch.id")
+    @Mapping(target = "savedSearchName", source = "savedSearch.name")
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "projectTitle", source = "project.title")
+    @Mapping(target = "projectStatus", source = "project.status")
+    @Mapping(target = "projectBudgetMin", source = "project.budgetMin")
+    @Mapping(target = "projectBudgetMax", source = "project.budgetMax")
+    @Mapping(target = "projectCurrency", source = "project.currency")
+    @Mapping(target = "projectCategoryName", source = "project.category.name")
+    @Mapping(target = "matchedAt", source = "createdAt")
+    SavedSearchMatchResponse toMatchResponse(SavedSearchMatch match);
+}
@@ -2,10 +2,12 @@ package com.example.freelance.repository.assignment;
 
 import com.example.freelance.domain.assignment.Assignment;
 import com.example.freelance.domain.assignment.AssignmentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,6 +37,15 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     @EntityGraph(attributePaths = {"project.client.user", "freelancer.user", "proposal"})
     Optional<Assignment> findById(Long id);
 
+    /**
+     * Loads the assignment and bumps its version at commit, so concurrent money movements against
+     * the same assignment conflict instead of both passing balance checks.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(attributePaths = {"project.client.user", "freelancer.user"})
+    @Query("SELECT a FROM Assignment a WHERE a.id = :id")
+    Optional<Assignment> findByIdForUpdate(@Param("id") Long id);
+
     List<Assignment> findByStatus(AssignmentStatus status);
 
     boolean existsByProjectId(Long projectId);
@@ -0,0 +1,48 @@
+package com.example.freelance.repository.chat;
+
+import com.example.freelance.domain.chat.ConversationParticipant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ConversationParticipantRepository extends JpaRepository<ConversationParticipant, Long> {
+    @Query("SELECT p FROM ConversationParticipant p JOIN FETCH p.conversation c " +
+           "JOIN FETCH c.client cl JOIN FETCH cl.user JOIN FETCH c.freelancer f JOIN FETCH f.user " +
+           "LEFT JOIN FETCH c.project LEFT JOIN FETCH c.assignment " +
+           "WHERE p.userId = :userId " +
+           "ORDER BY p.lastActivityAt DESC, c.id DESC")
+    List<ConversationParticipant> findInbox(@Param("userId") Long userId, Pageable limit);
+
+    @Query("SELECT p FROM ConversationParticipant p JOIN FETCH p.conversation c " +
+           "JOIN FETCH c.client cl JOIN FETCH cl.user JOIN FETCH c.freelancer f JOIN FETCH f.user " +
+           "LEFT JOIN FETCH c.project LEFT JOIN FETCH c.assignment " +
+           "WHERE p.userId = :userId " +
+           "AND (p.lastActivityAt < :beforeActivityAt OR (p.lastActivityAt = :beforeActivityAt AND c.id < :beforeConversationId)) " +
+           "ORDER BY p.lastActivityAt DESC, c.id DESC")
+    List<ConversationParticipant> findInboxBefore(
+            @Param("userId") Long userId,
+            @Param("beforeActivityAt") Instant beforeActivityAt,
+            @Param("beforeConversationId") Long beforeConversationId,
+            Pageable limit);
+
+    /**
+     * Pairs of {@code (conversationId, counterpartUserId)} for every conversation the user takes part in.
+     */
+    @Query("SELECT o.conversation.id, o.userId FROM ConversationParticipant p, ConversationParticipant o " +
+           "WHERE p.userId = :userId AND o.conversation = p.conversation AND o.userId <> :userId")
+    List<Object[]> findCounterparts(@Param("userId") Long userId);
+
+    boolean existsByConversationId(Long conversationId);
+
+    @Modifying
+    @Query("UPDATE ConversationParticipant p SET p.lastActivityAt = :activityAt " +
+           "WHERE p.conversation.id = :conversationId AND p.lastActivityAt < :activityAt")
+    int touch(@Param("conversationId") Long conversationId, @Param("activityAt") Instant activityAt);
+}
@@ -1,12 +1,17 @@
 package com.example.freelance.repository.chat;
 
 import com.example.freelance.domain.chat.Conversation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,10 +28,6 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
             @Param("freelancerId") Long freelancerId
     );
 
-    @EntityGraph(attributePaths = {"client.user", "freelancer.user", "project", "assignment"})
-    @Query("SELECT c FROM Conversation c WHERE c.client.user.id = :userId OR c.freelancer.user.id = :userId")
-    List<Conversation> findByUserId(@Param("userId") Long userId);
-
     @EntityGraph(attributePaths = {"client.user", "freelancer.user", "project", "assignment"})
     @Query("SELECT c FROM Conversation c WHERE c.project.id = :projectId")
     List<Conversation> findByProjectId(@Param("projectId") Long projectId);
@@ -38,5 +39,32 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
     @EntityGraph(attributePaths = {"client.user", "freelancer.user", "project", "assignment"})
     @Override
     Optional<Conversation> findById(Long id);
-}
 
+    @Modifying
+    @Query("UPDATE Conversation c SET c.clientLastReadMessageId = :messageId " +
+           "WHERE c.id = :conversationId AND c.clientLastReadMessageId < :messageId")
+    int advanceClientReadWatermark(@Param("conversationId") Long conversationId, @Param("messageId") Long messageId);
+
+    @Modifying
+    @Query("UPDATE Conversation c SET c.freelancerLastReadMessageId = :messageId " +
+           "WHERE c.id = :conversationId AND c.freelancerLastReadMessageId < :messageId")
+    int advanceFreelancerReadWatermark(@Param("conversationId") Long conversationId, @Param("messageId") Long messageId);
+
+    @Modifying
+    @Query("UPDATE Conversation c SET c.lastMessageId = :messageId, c.lastMessageAt = :messageAt, " +
+           "c.lastMessagePreview = :preview " +
+           "WHERE c.id = :conversationId AND (c.lastMessageId IS NULL OR c.lastMessageId < :messageId)")
+    int updateLastMessage(
+            @Param("conversationId") Long conversationId,
+            @Param("messageId") Long messageId,
+            @Param("messageAt") Instant messageAt,
+            @Param("preview") String preview);
+
+    @Query("SELECT c.id FROM Conversation c WHERE NOT EXISTS " +
+           "(SELECT p FROM ConversationParticipant p WHERE p.conversation = c) ORDER BY c.id")
+    List<Long> findIdsWithoutParticipants(Pageable limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Conversation c WHERE c.id = :id")
+    Optional<Conversation> findByIdForUpdate(@Param("id") Long id);
+}
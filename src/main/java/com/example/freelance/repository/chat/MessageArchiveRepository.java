@@ -0,0 +1,32 @@
+package com.example.freelance.repository.chat;
+
+import com.example.freelance.domain.chat.MessageArchive;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MessageArchiveRepository extends JpaRepository<MessageArchive, Long> {
+    /**
+     * Archived months of a conversation starting at or before {@code upTo}, newest first, as
+     * {@code [id, messageCount]} rows.
+     */
+    @Query("SELECT a.id, a.messageCount FROM MessageArchive a WHERE a.conversation.id = :conversationId " +
+           "AND a.periodStart <= :upTo ORDER BY a.periodStart DESC")
+    List<Object[]> findVersionsStartingAtOrBefore(@Param("conversationId") Long conversationId, @Param("upTo") Instant upTo);
+
+    @Query("SELECT a.payload FROM MessageArchive a WHERE a.id = :id")
+    Optional<byte[]> findPayloadById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM MessageArchive a WHERE a.conversation.id = :conversationId AND a.periodStart = :periodStart")
+    Optional<MessageArchive> findByConversationIdAndPeriodStartForUpdate(
+            @Param("conversationId") Long conversationId, @Param("periodStart") Instant periodStart);
+}
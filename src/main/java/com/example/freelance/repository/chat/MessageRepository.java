@@ -1,7 +1,6 @@
 package com.example.freelance.repository.chat;
 
 import com.example.freelance.domain.chat.Message;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,20 +8,67 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    Page<Message> findByConversationIdOrderByCreatedAtAsc(Long conversationId, Pageable pageable);
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.conversation.id = :conversationId " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findLatestByConversationId(@Param("conversationId") Long conversationId, Pageable limit);
 
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.conversation.id = :conversationId AND m.isRead = false AND m.sender.id != :userId")
-    long countUnreadMessages(@Param("conversationId") Long conversationId, @Param("userId") Long userId);
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.conversation.id = :conversationId " +
+           "AND (m.createdAt < :beforeCreatedAt OR (m.createdAt = :beforeCreatedAt AND m.id < :beforeId)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findByConversationIdBefore(
+            @Param("conversationId") Long conversationId,
+            @Param("beforeCreatedAt") Instant beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable limit);
 
-    @Modifying
-    @Query("UPDATE Message m SET m.isRead = true WHERE m.conversation.id = :conversationId AND m.sender.id != :userId AND m.isRead = false")
-    void markMessagesAsRead(@Param("conversationId") Long conversationId, @Param("userId") Long userId);
+    @Query("SELECT MAX(m.id) FROM Message m WHERE m.conversation.id = :conversationId AND m.id <= :upToId")
+    Long findLatestId(@Param("conversationId") Long conversationId, @Param("upToId") Long upToId);
 
-    @Query("SELECT m FROM Message m WHERE m.conversation.id = :conversationId AND m.isRead = false AND m.sender.id != :userId")
-    List<Message> findUnreadMessages(@Param("conversationId") Long conversationId, @Param("userId") Long userId);
-}
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.conversation.id = :conversationId " +
+           "AND m.id > :lastReadMessageId AND m.sender.id <> :userId")
+    long countUnreadMessages(
+            @Param("conversationId") Long conversationId,
+            @Param("lastReadMessageId") Long lastReadMessageId,
+            @Param("userId") Long userId);
+
+    /**
+     * Unread counts of several conversations for one participant, as {@code [conversationId, count]}
+     * rows. Conversations without unread messages are omitted.
+     */
+    @Query("SELECT c.id, COUNT(m) FROM Message m JOIN m.conversation c " +
+           "WHERE c.id IN :conversationIds AND m.sender.id <> :userId " +
+           "AND m.id > CASE WHEN c.client.user.id = :userId " +
+           "THEN c.clientLastReadMessageId ELSE c.freelancerLastReadMessageId END " +
+           "GROUP BY c.id")
+    List<Object[]> countUnreadMessagesByConversationIds(
+            @Param("conversationIds") Collection<Long> conversationIds, @Param("userId") Long userId);
+
+    @Query("SELECT COUNT(m) FROM Message m JOIN m.conversation c " +
+           "WHERE c.assignment.id = :assignmentId AND m.sender.id <> :userId " +
+           "AND m.id > CASE WHEN c.client.user.id = :userId " +
+           "THEN c.clientLastReadMessageId ELSE c.freelancerLastReadMessageId END")
+    long countUnreadMessagesByAssignmentId(@Param("assignmentId") Long assignmentId, @Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT m.conversation.id FROM Message m WHERE m.createdAt < :createdBefore")
+    List<Long> findConversationIdsWithMessagesBefore(@Param("createdBefore") Instant createdBefore, Pageable limit);
 
+    @Query("SELECT MIN(m.createdAt) FROM Message m WHERE m.conversation.id = :conversationId " +
+           "AND m.createdAt >= :from AND m.createdAt < :to")
+    Instant findOldestCreatedAt(@Param("conversationId") Long conversationId, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("SELECT m FROM Message m WHERE m.conversation.id = :conversationId " +
+           "AND m.createdAt >= :from AND m.createdAt < :to ORDER BY m.createdAt, m.id")
+    List<Message> findByConversationIdAndCreatedAtBetween(
+            @Param("conversationId") Long conversationId, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Modifying
+    @Query("DELETE FROM Message m WHERE m.conversation.id = :conversationId AND m.createdAt >= :from AND m.createdAt < :to")
+    int deleteByConversationIdAndCreatedAtBetween(
+            @Param("conversationId") Long conversationId, @Param("from") Instant from, @Param("to") Instant to);
+}
@@ -0,0 +1,53 @@
+package com.example.freelance.repository.notification;
+
+import com.example.freelance.domain.notification.Notification;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
+    Page<Notification> findByRecipientId(Long recipientId, Pageable pageable);
+
+    Page<Notification> findByRecipientIdAndReadAtIsNull(Long recipientId, Pageable pageable);
+
+    Optional<Notification> findByIdAndRecipientId(Long id, Long recipientId);
+
+    long countByRecipientIdAndReadAtIsNull(Long recipientId);
+
+    @Query("SELECT n.recipientId FROM Notification n WHERE n.sourceEventId = :sourceEventId")
+    List<Long> findRecipientIdsBySourceEventId(@Param("sourceEventId") Long sourceEventId);
+
+    /**
+     * Claims undelivered notifications created before {@code createdBefore} whose retry, if any,
+     * is due, skipping rows another node is already delivering and rows that have failed for good.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM Notification n " +
+           "WHERE n.deliveredAt IS NULL AND n.deliveryFailedAt IS NULL AND n.createdAt < :createdBefore " +
+           "AND (n.nextDeliveryAt IS NULL OR n.nextDeliveryAt <= :now) ORDER BY n.id")
+    List<Notification> claimUndelivered(@Param("createdBefore") Instant createdBefore, @Param("now") Instant now,
+                                        Pageable limit);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.deliveredAt = :now WHERE n.id IN :ids")
+    int markDelivered(@Param("ids") List<Long> ids, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :now, n.updatedAt = :now " +
+           "WHERE n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markAllRead(@Param("recipientId") Long recipientId, @Param("now") Instant now);
+}
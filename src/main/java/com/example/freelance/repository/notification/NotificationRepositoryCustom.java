@@ -0,0 +1,14 @@
+package com.example.freelance.repository.notification;
+
+import com.example.freelance.domain.notification.Notification;
+
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+    /**
+     * Inserts the notifications with JDBC batching. Identity ids rule out Hibernate insert
+     * batching, so a large fan-out would otherwise cost one round trip per row. Generated ids
+     * are not read back.
+     */
+    void insertAll(List<Notification> notifications);
+}
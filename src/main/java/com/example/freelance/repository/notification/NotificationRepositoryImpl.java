@@ -0,0 +1,35 @@
+package com.example.freelance.repository.notification;
+
+import com.example.freelance.domain.notification.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@RequiredArgsConstructor
+class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (recipient_id, type, title, body, project_id, proposal_id, " +
+            "source_event_id, delivery_attempts, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Notification> notifications) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, notification) -> {
+            ps.setLong(1, notification.getRecipientId());
+            ps.setString(2, notification.getType().name());
+            ps.setString(3, notification.getTitle());
+            ps.setString(4, notification.getBody());
+            ps.setObject(5, notification.getProjectId());
+            ps.setObject(6, notification.getProposalId());
+            ps.setLong(7, notification.getSourceEventId());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.freelance.repository.outbox;
+
+import com.example.freelance.domain.outbox.OutboxEvent;
+import com.example.freelance.domain.outbox.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * Claims due events with {@code FOR UPDATE SKIP LOCKED}, so concurrent dispatchers never
+     * block on or double-deliver the same rows. Only the oldest pending event of each aggregate
+     * is eligible, which keeps delivery ordered per aggregate across dispatchers and holds back
+     * later events while an earlier one is waiting for a retry.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+           "WHERE e.status = :pending AND e.nextAttemptAt <= :now " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxEvent earlier " +
+           "                WHERE earlier.aggregateType = e.aggregateType " +
+           "                AND earlier.aggregateId = e.aggregateId " +
+           "                AND earlier.status = :pending " +
+           "                AND earlier.id < e.id) " +
+           "ORDER BY e.id")
+    List<OutboxEvent> claimDispatchable(@Param("pending") OutboxStatus pending, @Param("now") Instant now, Pageable limit);
+
+    long countByStatus(OutboxStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :processed AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("processed") OutboxStatus processed, @Param("before") Instant before);
+}
@@ -41,5 +41,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     BigDecimal sumByFreelancerId(@Param("freelancerId") Long freelancerId);
 
     List<Payment> findByAssignmentIdAndType(Long assignmentId, PaymentType type);
+
+    @Query("SELECT p.type AS type, SUM(p.amount) AS total FROM Payment p " +
+           "WHERE p.assignment.id = :assignmentId AND p.status = :status GROUP BY p.type")
+    List<TypeTotal> sumByAssignmentIdAndStatusGroupedByType(@Param("assignmentId") Long assignmentId,
+                                                            @Param("status") PaymentStatus status);
+
+    interface TypeTotal {
+        PaymentType getType();
+
+        BigDecimal getTotal();
+    }
 }
 
@@ -2,13 +2,27 @@ package com.example.freelance.repository.project;
 
 import com.example.freelance.domain.project.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
     boolean existsByName(String name);
+
+    /**
+     * Collection version of all categories: changes whenever one is added, removed or updated.
+     */
+    @Query("SELECT COUNT(c) AS count, MAX(c.updatedAt) AS lastUpdatedAt FROM Category c")
+    CollectionVersion findCollectionVersion();
+
+    interface CollectionVersion {
+        long getCount();
+
+        Instant getLastUpdatedAt();
+    }
 }
 
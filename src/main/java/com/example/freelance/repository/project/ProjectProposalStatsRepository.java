@@ -0,0 +1,66 @@
+package com.example.freelance.repository.project;
+
+import com.example.freelance.domain.project.ProjectProposalStats;
+import com.example.freelance.domain.proposal.ProposalStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Repository
+public interface ProjectProposalStatsRepository extends JpaRepository<ProjectProposalStats, Long> {
+    @Modifying
+    @Query("UPDATE ProjectProposalStats s SET " +
+           "s.pendingCount = s.pendingCount + 1, " +
+           "s.bidCount = s.bidCount + 1, " +
+           "s.bidSum = s.bidSum + :bid, " +
+           "s.minBid = CASE WHEN s.minBid IS NULL OR s.minBid > :bid THEN :bid ELSE s.minBid END, " +
+           "s.maxBid = CASE WHEN s.maxBid IS NULL OR s.maxBid < :bid THEN :bid ELSE s.maxBid END, " +
+           "s.lastProposalAt = :now, s.updatedAt = :now " +
+           "WHERE s.id = :statsId")
+    int recordNewProposal(@Param("statsId") Long statsId, @Param("bid") BigDecimal bid, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE ProjectProposalStats s SET " +
+           "s.pendingCount = s.pendingCount + :pending, " +
+           "s.acceptedCount = s.acceptedCount + :accepted, " +
+           "s.rejectedCount = s.rejectedCount + :rejected, " +
+           "s.withdrawnCount = s.withdrawnCount + :withdrawn, " +
+           "s.updatedAt = :now " +
+           "WHERE s.id = :statsId")
+    int applyStatusDeltas(
+            @Param("statsId") Long statsId,
+            @Param("pending") int pending,
+            @Param("accepted") int accepted,
+            @Param("rejected") int rejected,
+            @Param("withdrawn") int withdrawn,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("UPDATE ProjectProposalStats s SET " +
+           "s.bidCount = (SELECT COUNT(p) FROM Proposal p WHERE p.project.id = :projectId AND p.status <> :excluded), " +
+           "s.bidSum = (SELECT COALESCE(SUM(p.bidAmount), 0) FROM Proposal p WHERE p.project.id = :projectId AND p.status <> :excluded), " +
+           "s.minBid = (SELECT MIN(p.bidAmount) FROM Proposal p WHERE p.project.id = :projectId AND p.status <> :excluded), " +
+           "s.maxBid = (SELECT MAX(p.bidAmount) FROM Proposal p WHERE p.project.id = :projectId AND p.status <> :excluded), " +
+           "s.updatedAt = :now " +
+           "WHERE s.id = :statsId")
+    int recalculateBids(
+            @Param("statsId") Long statsId,
+            @Param("projectId") Long projectId,
+            @Param("excluded") ProposalStatus excluded,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("UPDATE ProjectProposalStats s SET s.lastProposalAt = :lastProposalAt, s.updatedAt = :now WHERE s.id = :statsId")
+    int updateLastProposalAt(
+            @Param("statsId") Long statsId,
+            @Param("lastProposalAt") Instant lastProposalAt,
+            @Param("now") Instant now
+    );
+}
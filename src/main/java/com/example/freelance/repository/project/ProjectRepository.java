@@ -2,30 +2,40 @@ package com.example.freelance.repository.project;
 
 import com.example.freelance.domain.project.Project;
 import com.example.freelance.domain.project.ProjectStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Project p WHERE p.proposalStats IS NULL ORDER BY p.id")
+    List<Long> findIdsWithoutProposalStats(Pageable limit);
+
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     Page<Project> findByStatus(ProjectStatus status, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     Page<Project> findByClientId(Long clientId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     Page<Project> findByClientIdAndStatus(Long clientId, ProjectStatus status, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     @Query("SELECT p FROM Project p WHERE p.status = :status " +
            "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
            "AND (:minBudget IS NULL OR p.budgetMax >= :minBudget) " +
@@ -40,7 +50,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     @Query("SELECT p FROM Project p WHERE p.status = :status " +
            "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
            "AND (:minBudget IS NULL OR p.budgetMax >= :minBudget) " +
@@ -55,11 +65,31 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     Optional<Project> findByIdAndClientId(Long id, Long clientId);
     
-    @EntityGraph(attributePaths = {"client.user", "category", "tags"})
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
     @Override
     Optional<Project> findById(Long id);
-}
 
+    @EntityGraph(attributePaths = {"client.user", "category", "tags", "proposalStats"})
+    List<Project> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.status = :status " +
+           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+           "AND (:minBudget IS NULL OR p.budgetMax >= :minBudget) " +
+           "AND (:maxBudget IS NULL OR p.budgetMin <= :maxBudget) " +
+           "AND (:tagIds IS NULL OR EXISTS (SELECT t FROM p.tags t WHERE t.id IN :tagIds))")
+    List<Long> filterIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ProjectStatus status,
+            @Param("categoryId") Long categoryId,
+            @Param("minBudget") BigDecimal minBudget,
+            @Param("maxBudget") BigDecimal maxBudget,
+            @Param("tagIds") List<Long> tagIds
+    );
+
+    @Query("SELECT DISTINCT p FROM Project p JOIN FETCH p.client c JOIN FETCH c.user LEFT JOIN FETCH p.tags " +
+           "WHERE p.status = :status")
+    List<Project> findAllWithTagsByStatus(@Param("status") ProjectStatus status);
+}
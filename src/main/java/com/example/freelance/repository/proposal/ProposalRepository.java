@@ -6,10 +6,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,7 +35,31 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
     @Query("SELECT p FROM Proposal p WHERE p.project.id = :projectId AND p.status = :status")
     List<Proposal> findByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") ProposalStatus status);
 
+    @Query("SELECT p.id FROM Proposal p WHERE p.project.id = :projectId AND p.status = :status")
+    List<Long> findIdsByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") ProposalStatus status);
+
+    /**
+     * Moves the given proposals from {@code from} to {@code to} in one statement. The version is
+     * bumped so concurrent edits of the same rows still fail their optimistic lock check.
+     */
+    @Modifying
+    @Query("UPDATE Proposal p SET p.status = :to, p.version = p.version + 1, p.updatedAt = :now " +
+           "WHERE p.id IN :ids AND p.status = :from")
+    int updateStatus(@Param("ids") List<Long> ids, @Param("from") ProposalStatus from,
+                     @Param("to") ProposalStatus to, @Param("now") Instant now);
+
+    @Query("SELECT p.project.id FROM Proposal p WHERE p.freelancer.id = :freelancerId")
+    List<Long> findProjectIdsByFreelancerId(@Param("freelancerId") Long freelancerId);
+
+    @Query("SELECT p.freelancer.id FROM Proposal p WHERE p.project.id = :projectId")
+    List<Long> findFreelancerIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT f.user.id FROM Proposal p JOIN p.freelancer f WHERE p.id IN :ids")
+    List<Long> findFreelancerUserIdsByIdIn(@Param("ids") List<Long> ids);
+
     @Query("SELECT COUNT(p) FROM Proposal p WHERE p.project.id = :projectId AND p.status = :status")
     long countByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") ProposalStatus status);
-}
 
+    @Query("SELECT MAX(p.createdAt) FROM Proposal p WHERE p.project.id = :projectId")
+    Optional<Instant> findLatestCreatedAtByProjectId(@Param("projectId") Long projectId);
+}
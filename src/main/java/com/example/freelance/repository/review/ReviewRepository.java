@@ -4,13 +4,13 @@ import com.example.freelance.domain.review.Review;
 import com.example.freelance.domain.review.ReviewType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -33,7 +33,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Optional<Review> findByAssignmentIdAndAuthorIdAndReviewType(Long assignmentId, Long authorId, ReviewType reviewType);
 
-    @Query("SELECT r FROM Review r WHERE r.assignment.id = :assignmentId")
-    List<Review> findByAssignmentId(@Param("assignmentId") Long assignmentId);
+    @EntityGraph(attributePaths = {"author", "targetFreelancer", "targetClient.user", "assignment.project"})
+    Page<Review> findByAssignmentId(Long assignmentId, Pageable pageable);
 }
 
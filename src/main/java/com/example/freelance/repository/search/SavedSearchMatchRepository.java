@@ -0,0 +1,30 @@
+package com.example.freelance.repository.search;
+
+import com.example.freelance.domain.search.SavedSearchMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatch, Long>, SavedSearchMatchRepositoryCustom {
+    @EntityGraph(attributePaths = {"savedSearch", "project.category"})
+    Page<SavedSearchMatch> findByUserId(Long userId, Pageable pageable);
+
+    @Query("SELECT m.userId FROM SavedSearchMatch m WHERE m.project.id = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.savedSearch.id = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
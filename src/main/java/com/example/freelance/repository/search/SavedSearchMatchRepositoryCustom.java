@@ -0,0 +1,13 @@
+package com.example.freelance.repository.search;
+
+import com.example.freelance.domain.search.SavedSearchMatch;
+
+import java.util.List;
+
+public interface SavedSearchMatchRepositoryCustom {
+    /**
+     * Inserts the matches with JDBC batching; generated ids are not read back. Only the ids of
+     * the referenced saved search and project are used.
+     */
+    void insertAll(List<SavedSearchMatch> matches);
+}
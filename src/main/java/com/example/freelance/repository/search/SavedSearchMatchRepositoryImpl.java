@@ -0,0 +1,31 @@
+package com.example.freelance.repository.search;
+
+import com.example.freelance.domain.search.SavedSearchMatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@RequiredArgsConstructor
+class SavedSearchMatchRepositoryImpl implements SavedSearchMatchRepositoryCustom {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO saved_search_matches (user_id, saved_search_id, project_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<SavedSearchMatch> matches) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, matches, BATCH_SIZE, (ps, match) -> {
+            ps.setLong(1, match.getUserId());
+            ps.setLong(2, match.getSavedSearch().getId());
+            ps.setLong(3, match.getProject().getId());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.freelance.repository.search;
+
+import com.example.freelance.domain.search.SavedSearch;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    @EntityGraph(attributePaths = {"tagIds"})
+    List<SavedSearch> findByUserIdOrderByIdAsc(Long userId);
+
+    Optional<SavedSearch> findByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("SELECT DISTINCT s FROM SavedSearch s LEFT JOIN FETCH s.tagIds")
+    List<SavedSearch> findAllWithTags();
+}
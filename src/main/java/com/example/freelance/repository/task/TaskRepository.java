@@ -28,11 +28,20 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignment.id = :assignmentId AND t.status = :status")
     long countByAssignmentIdAndStatus(@Param("assignmentId") Long assignmentId, @Param("status") TaskStatus status);
 
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t WHERE t.assignment.id = :assignmentId GROUP BY t.status")
+    List<StatusCount> countByAssignmentIdGroupedByStatus(@Param("assignmentId") Long assignmentId);
+
     @EntityGraph(attributePaths = {"assignment.project.client.user", "assignment.freelancer.user"})
     Optional<Task> findByIdAndAssignmentId(Long id, Long assignmentId);
     
     @EntityGraph(attributePaths = {"assignment.project.client.user", "assignment.freelancer.user"})
     @Override
     Optional<Task> findById(Long id);
+
+    interface StatusCount {
+        TaskStatus getStatus();
+
+        long getCount();
+    }
 }
 
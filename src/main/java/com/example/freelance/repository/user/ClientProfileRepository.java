@@ -2,12 +2,18 @@ package com.example.freelance.repository.user;
 
 import com.example.freelance.domain.user.ClientProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface ClientProfileRepository extends JpaRepository<ClientProfile, Long> {
     Optional<ClientProfile> findByUserId(Long userId);
+
+    @Query("SELECT c.updatedAt FROM ClientProfile c WHERE c.user.id = :userId")
+    Optional<Instant> findUpdatedAtByUserId(@Param("userId") Long userId);
 }
 
@@ -1,5 +1,6 @@
 package com.example.freelance.repository.user;
 
+import com.example.freelance.domain.assignment.AssignmentStatus;
 import com.example.freelance.domain.user.FreelancerProfile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,9 @@ import java.util.Optional;
 public interface FreelancerProfileRepository extends JpaRepository<FreelancerProfile, Long> {
     Optional<FreelancerProfile> findByUserId(Long userId);
 
+    @Query("SELECT f.updatedAt FROM FreelancerProfile f WHERE f.user.id = :userId")
+    Optional<Instant> findUpdatedAtByUserId(@Param("userId") Long userId);
+
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT DISTINCT f FROM FreelancerProfile f " +
            "WHERE (:minRating IS NULL OR f.rating >= :minRating) " +
@@ -52,5 +57,18 @@ public interface FreelancerProfileRepository extends JpaRepository<FreelancerPro
             @Param("skills") List<String> skills,
             Pageable pageable
     );
-}
 
+    @EntityGraph(attributePaths = {"user"})
+    @Query(value = "SELECT f FROM FreelancerProfile f WHERE EXISTS (SELECT a FROM Assignment a " +
+                   "WHERE a.freelancer = f AND a.project.client.user.id = :clientUserId AND a.status = :status)",
+           countQuery = "SELECT COUNT(f) FROM FreelancerProfile f WHERE EXISTS (SELECT a FROM Assignment a " +
+                        "WHERE a.freelancer = f AND a.project.client.user.id = :clientUserId AND a.status = :status)")
+    Page<FreelancerProfile> findByClientUserIdAndAssignmentStatus(
+            @Param("clientUserId") Long clientUserId,
+            @Param("status") AssignmentStatus status,
+            Pageable pageable
+    );
+
+    @Query("SELECT DISTINCT f FROM FreelancerProfile f JOIN FETCH f.user LEFT JOIN FETCH f.skills")
+    List<FreelancerProfile> findAllWithSkills();
+}
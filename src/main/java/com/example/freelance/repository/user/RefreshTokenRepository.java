@@ -0,0 +1,40 @@
+package com.example.freelance.repository.user;
+
+import com.example.freelance.domain.user.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    @EntityGraph(attributePaths = {"user"})
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true, t.updatedAt = :now WHERE t.id = :id AND t.revoked = false")
+    int revokeIfActive(@Param("id") Long id, @Param("now") Instant now);
+
+    @Query("SELECT t FROM RefreshToken t WHERE t.familyId = :familyId AND t.accessTokenExpiresAt > :now")
+    List<RefreshToken> findWithLiveAccessTokens(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true, t.accessTokenRevoked = true, t.updatedAt = :now " +
+           "WHERE t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Query("SELECT t FROM RefreshToken t WHERE t.accessTokenRevoked = true AND t.accessTokenExpiresAt > :now")
+    List<RefreshToken> findRevokedWithLiveAccessTokens(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
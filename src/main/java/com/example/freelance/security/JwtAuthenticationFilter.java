@@ -1,5 +1,8 @@
 package com.example.freelance.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -16,54 +18,98 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from the bearer access token alone: the principal is rebuilt from the
+ * verified claims and checked against the in-memory revocation list, without loading the user.
+ * Requests to {@link PublicPaths} skip this filter entirely.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final String REJECTED_METRIC = "freelance.auth.tokens.rejected";
+
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final MeterRegistry meterRegistry;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicPaths.matches(request.getRequestURI().substring(request.getContextPath().length()));
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String path = request.getRequestURI();
-        
-        if (path.startsWith("/v3/api-docs") || 
-            path.startsWith("/swagger-ui") || 
-            path.startsWith("/swagger-resources") ||
-            path.startsWith("/webjars")) {
-            filterChain.doFilter(request, response);
-            return;
+        String jwt = getJwtFromRequest(request);
+
+        if (jwt != null) {
+            if (isWellFormed(jwt)) {
+                authenticate(jwt, request);
+            } else {
+                reject("malformed");
+            }
         }
-        
-        try {
-            String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
-                String username = jwtUtil.extractUsername(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        filterChain.doFilter(request, response);
+    }
 
-                if (Boolean.TRUE.equals(jwtUtil.validateToken(jwt, userDetails))) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    private void authenticate(String jwt, HttpServletRequest request) {
+        Claims claims;
+        UserPrincipal userPrincipal;
+        try {
+            claims = jwtUtil.parseAccessToken(jwt);
+            userPrincipal = jwtUtil.toPrincipal(claims);
+        } catch (ExpiredJwtException ex) {
+            reject("expired");
+            return;
+        } catch (RuntimeException ex) {
+            // Invalid tokens are client errors; the stack trace carries nothing useful here.
+            log.debug("Rejected access token: {}", ex.toString());
+            reject("invalid");
+            return;
+        }
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
-            }
-        } catch (Exception ex) {
-            log.error("Could not set user authentication in security context", ex);
+        if (revokedTokenRegistry.isRevoked(claims.getId())) {
+            reject("revoked");
+            return;
+        }
+        if (!userPrincipal.isEnabled() || !userPrincipal.isAccountNonLocked()) {
+            reject("inactive");
+            return;
         }
 
-        filterChain.doFilter(request, response);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
+        authentication.setDetails(authenticationDetailsSource.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter(REJECTED_METRIC, "reason", reason).increment();
+    }
+
+    /**
+     * Cheap shape check so obviously broken tokens never reach signature verification.
+     */
+    private static boolean isWellFormed(String jwt) {
+        if (jwt.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int firstDot = jwt.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : jwt.indexOf('.', firstDot + 1);
+        return firstDot > 0 && secondDot > firstDot + 1 && secondDot < jwt.length() - 1
+                && jwt.indexOf('.', secondDot + 1) < 0;
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length()).trim();
         }
         return null;
     }
 }
-
@@ -0,0 +1,41 @@
+package com.example.freelance.security;
+
+import com.example.freelance.common.util.PathPatternTrie;
+
+import java.util.List;
+
+/**
+ * Routes that never require authentication. The same list drives the {@code permitAll} rules
+ * and the precompiled matcher that lets these requests skip bearer token processing.
+ */
+public final class PublicPaths {
+    static final String[] HEALTH_PROBES = {
+            "/actuator/health",
+            "/actuator/health/**",
+            "/actuator/info"
+    };
+
+    static final String[] PATTERNS = {
+            "/v3/api-docs",
+            "/v3/api-docs/**",
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/swagger-resources/**",
+            "/webjars/**",
+            "/api/auth/**",
+            "/api/public/**",
+            "/actuator/health",
+            "/actuator/health/**",
+            "/actuator/info"
+    };
+
+    private static final PathPatternTrie MATCHER = new PathPatternTrie(List.of(PATTERNS));
+
+    private PublicPaths() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static boolean matches(String path) {
+        return MATCHER.matches(path);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.freelance.security;
+
+import com.example.freelance.common.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory revocation list for access token ids (JTIs). A Bloom filter answers the common
+ * "not revoked" case without touching the exact set; hits are confirmed against the set, so a
+ * false positive never rejects a valid token. Revoked ids only need to be remembered until the
+ * token would expire anyway, so the filter is rotated in two generations every access token
+ * lifetime and expired ids are dropped from the set.
+ *
+ * <p>The registry is per node. Revocations are persisted on {@code refresh_tokens} and
+ * {@link com.example.freelance.service.auth.RefreshTokenService#restoreRevocations} reloads them
+ * periodically, so a token revoked on another node is rejected here after at most one sync
+ * interval.
+ */
+@Component
+public class RevokedTokenRegistry {
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final ConcurrentMap<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public RevokedTokenRegistry(
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revoked.put(jti, expiresAt);
+        current.put(jti);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || (!current.mightContain(jti) && !previous.mightContain(jti))) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * Starts a new filter generation. Ids still in the exact set are carried over so they stay
+     * visible for as long as their tokens remain valid.
+     */
+    @Scheduled(fixedDelayString = "${jwt.expiration:900000}", initialDelayString = "${jwt.expiration:900000}")
+    public void rotate() {
+        Instant now = Instant.now();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        revoked.keySet().forEach(next::put);
+        previous = current;
+        current = next;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.freelance.service.assignment;
+
+import com.example.freelance.common.concurrency.FanOutScope;
+import com.example.freelance.common.exception.ForbiddenException;
+import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.common.exception.ServiceUnavailableException;
+import com.example.freelance.domain.assignment.Assignment;
+import com.example.freelance.domain.payment.PaymentStatus;
+import com.example.freelance.domain.payment.PaymentType;
+import com.example.freelance.domain.task.TaskStatus;
+import com.example.freelance.dto.assignment.AssignmentDashboardResponse;
+import com.example.freelance.dto.assignment.AssignmentResponse;
+import com.example.freelance.dto.review.ReviewResponse;
+import com.example.freelance.mapper.assignment.AssignmentMapper;
+import com.example.freelance.mapper.review.ReviewMapper;
+import com.example.freelance.repository.assignment.AssignmentRepository;
+import com.example.freelance.repository.chat.MessageRepository;
+import com.example.freelance.repository.payment.PaymentRepository;
+import com.example.freelance.repository.review.ReviewRepository;
+import com.example.freelance.repository.task.TaskRepository;
+import com.example.freelance.security.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the contract dashboard for one assignment. Access is checked once against a single
+ * assignment load; the independent sections are then queried in parallel, each in its own
+ * read-only transaction on a virtual thread. The transactions time out with the dashboard, so
+ * a section abandoned after the timeout has its query cancelled.
+ */
+@Slf4j
+@Service
+public class AssignmentDashboardService {
+    private static final String ASSIGNMENT_RESOURCE_NAME = "Assignment";
+
+    private final AssignmentRepository assignmentRepository;
+    private final TaskRepository taskRepository;
+    private final PaymentRepository paymentRepository;
+    private final MessageRepository messageRepository;
+    private final ReviewRepository reviewRepository;
+    private final AssignmentMapper assignmentMapper;
+    private final ReviewMapper reviewMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeout;
+    private final int maxReviews;
+
+    public AssignmentDashboardService(
+            AssignmentRepository assignmentRepository,
+            TaskRepository taskRepository,
+            PaymentRepository paymentRepository,
+            MessageRepository messageRepository,
+            ReviewRepository reviewRepository,
+            AssignmentMapper assignmentMapper,
+            ReviewMapper reviewMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${assignment.dashboard.timeout-ms:5000}") long timeoutMillis,
+            @Value("${assignment.dashboard.max-reviews:10}") int maxReviews) {
+        this.assignmentRepository = assignmentRepository;
+        this.taskRepository = taskRepository;
+        this.paymentRepository = paymentRepository;
+        this.messageRepository = messageRepository;
+        this.reviewRepository = reviewRepository;
+        this.assignmentMapper = assignmentMapper;
+        this.reviewMapper = reviewMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.ceil(timeoutMillis / 1000.0));
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.maxReviews = maxReviews;
+    }
+
+    public AssignmentDashboardResponse getDashboard(Long assignmentId) {
+        UserPrincipal userPrincipal = getCurrentUser();
+        AssignmentResponse assignment = readOnlyTransaction.execute(status -> loadAuthorized(assignmentId, userPrincipal));
+
+        try (FanOutScope scope = new FanOutScope("assignment-dashboard")) {
+            FanOutScope.Subtask<Map<TaskStatus, Long>> taskCounts = scope.fork(() -> readOnlyTransaction.execute(
+                    status -> countTasks(assignmentId)));
+            FanOutScope.Subtask<Map<PaymentType, BigDecimal>> paymentTotals = scope.fork(() -> readOnlyTransaction.execute(
+                    status -> sumCompletedPayments(assignmentId)));
+            FanOutScope.Subtask<Long> unreadMessages = scope.fork(() -> readOnlyTransaction.execute(
+                    status -> messageRepository.countUnreadMessagesByAssignmentId(assignmentId, userPrincipal.getId())));
+            FanOutScope.Subtask<List<ReviewResponse>> reviews = scope.fork(() -> readOnlyTransaction.execute(
+                    status -> reviewRepository.findByAssignmentId(assignmentId,
+                                    PageRequest.of(0, maxReviews, Sort.by(Sort.Direction.DESC, "createdAt")))
+                            .map(reviewMapper::toResponse)
+                            .getContent()));
+
+            scope.join(timeout);
+
+            return buildResponse(assignment, taskCounts.get(), paymentTotals.get(), unreadMessages.get(), reviews.get());
+        } catch (TimeoutException ex) {
+            log.warn("Assignment dashboard timed out: assignmentId={}, timeoutMs={}", assignmentId, timeout.toMillis());
+            throw new ServiceUnavailableException("Assignment dashboard took too long to load", "DASHBOARD_TIMEOUT", 1);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Assignment dashboard loading was interrupted", "DASHBOARD_INTERRUPTED", 1);
+        }
+    }
+
+    private AssignmentResponse loadAuthorized(Long assignmentId, UserPrincipal userPrincipal) {
+        Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new NotFoundException(ASSIGNMENT_RESOURCE_NAME, assignmentId.toString()));
+
+        boolean isClient = assignment.getProject().getClient().getUser().getId().equals(userPrincipal.getId());
+        boolean isFreelancer = assignment.getFreelancer().getUser().getId().equals(userPrincipal.getId());
+
+        if (!isClient && !isFreelancer) {
+            throw new ForbiddenException("Access denied to this assignment", "ACCESS_DENIED");
+        }
+
+        return assignmentMapper.toResponse(assignment);
+    }
+
+    private Map<TaskStatus, Long> countTasks(Long assignmentId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        taskRepository.countByAssignmentIdGroupedByStatus(assignmentId)
+                .forEach(row -> counts.put(row.getStatus(), row.getCount()));
+        return counts;
+    }
+
+    private Map<PaymentType, BigDecimal> sumCompletedPayments(Long assignmentId) {
+        Map<PaymentType, BigDecimal> totals = new EnumMap<>(PaymentType.class);
+        for (PaymentType type : PaymentType.values()) {
+            totals.put(type, BigDecimal.ZERO);
+        }
+        paymentRepository.sumByAssignmentIdAndStatusGroupedByType(assignmentId, PaymentStatus.COMPLETED)
+                .forEach(row -> totals.put(row.getType(), row.getTotal()));
+        return totals;
+    }
+
+    private AssignmentDashboardResponse buildResponse(AssignmentResponse assignment,
+                                                      Map<TaskStatus, Long> taskCounts,
+                                                      Map<PaymentType, BigDecimal> paymentTotals,
+                                                      Long unreadMessages,
+                                                      List<ReviewResponse> reviews) {
+        BigDecimal escrowed = paymentTotals.get(PaymentType.ESCROW);
+        BigDecimal released = paymentTotals.get(PaymentType.RELEASE);
+
+        return AssignmentDashboardResponse.builder()
+                .assignment(assignment)
+                .taskCounts(taskCounts)
+                .totalTasks(taskCounts.values().stream().mapToLong(Long::longValue).sum())
+                .escrowedAmount(escrowed)
+                .releasedAmount(released)
+                .refundedAmount(paymentTotals.get(PaymentType.REFUND))
+                .bonusAmount(paymentTotals.get(PaymentType.BONUS))
+                .availableInEscrow(escrowed.subtract(released))
+                .unreadMessages(unreadMessages)
+                .reviews(reviews)
+                .build();
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.freelance.service.assignment;
 
+import com.example.freelance.common.concurrency.RetryOnConflict;
 import com.example.freelance.common.exception.BadRequestException;
 import com.example.freelance.common.exception.ConflictException;
 import com.example.freelance.common.exception.ForbiddenException;
@@ -17,6 +18,8 @@ import com.example.freelance.repository.project.ProjectRepository;
 import com.example.freelance.repository.proposal.ProposalRepository;
 import com.example.freelance.common.util.MdcUtil;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.outbox.OutboxPublisher;
+import com.example.freelance.service.outbox.event.AssignmentCompleted;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -35,6 +38,7 @@ public class AssignmentService {
     private final ProposalRepository proposalRepository;
     private final ProjectRepository projectRepository;
     private final AssignmentMapper assignmentMapper;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     public AssignmentResponse createAssignment(CreateAssignmentRequest request) {
@@ -82,6 +86,7 @@ public class AssignmentService {
     private static final String ASSIGNMENT_RESOURCE_NAME = "Assignment";
 
     @Transactional
+    @RetryOnConflict
     public AssignmentResponse updateAssignment(Long assignmentId, UpdateAssignmentRequest request) {
         UserPrincipal userPrincipal = getCurrentUser();
         Assignment assignment = assignmentRepository.findById(assignmentId)
@@ -164,6 +169,7 @@ public class AssignmentService {
     }
 
     @Transactional
+    @RetryOnConflict
     public AssignmentResponse completeAssignment(Long assignmentId) {
         UserPrincipal userPrincipal = getCurrentUser();
         Assignment assignment = assignmentRepository.findById(assignmentId)
@@ -186,6 +192,9 @@ public class AssignmentService {
         AssignmentStatus oldStatus = assignment.getStatus();
         assignment.setStatus(AssignmentStatus.COMPLETED);
         assignment = assignmentRepository.save(assignment);
+        outboxPublisher.publish(new AssignmentCompleted(assignmentId, assignment.getProject().getId(),
+                assignment.getFreelancer().getUser().getId(), assignment.getProject().getClient().getUser().getId(),
+                userPrincipal.getId()));
         
         log.info("Assignment status changed: assignmentId={}, projectId={}, freelancerId={}, oldStatus={}, newStatus={}, changedBy={}", 
                 assignmentId, assignment.getProject().getId(), assignment.getFreelancer().getId(), 
@@ -196,6 +205,7 @@ public class AssignmentService {
     }
 
     @Transactional
+    @RetryOnConflict
     public AssignmentResponse cancelAssignment(Long assignmentId) {
         UserPrincipal userPrincipal = getCurrentUser();
         Assignment assignment = assignmentRepository.findById(assignmentId)
@@ -225,6 +235,7 @@ public class AssignmentService {
     }
 
     @Transactional
+    @RetryOnConflict
     public AssignmentResponse createAssignmentFromProposal(Long proposalId, Instant startDate, Instant endDate) {
         Proposal proposal = proposalRepository.findById(proposalId)
                 .orElseThrow(() -> new NotFoundException("Proposal", proposalId.toString()));
@@ -9,12 +9,13 @@ import com.example.freelance.domain.user.User;
 import com.example.freelance.domain.user.UserStatus;
 import com.example.freelance.dto.auth.AuthResponse;
 import com.example.freelance.dto.auth.LoginRequest;
+import com.example.freelance.dto.auth.RefreshTokenRequest;
 import com.example.freelance.dto.auth.RegisterRequest;
 import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.repository.user.FreelancerProfileRepository;
 import com.example.freelance.repository.user.UserRepository;
-import com.example.freelance.security.JwtUtil;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.auth.RefreshTokenService.IssuedTokens;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -33,7 +34,7 @@ public class AuthService {
     private final ClientProfileRepository clientProfileRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -62,15 +63,7 @@ public class AuthService {
             user.setClientProfile(profile);
         }
 
-        UserPrincipal userPrincipal = UserPrincipal.create(user);
-        String token = jwtUtil.generateToken(userPrincipal, user.getRole().name());
-
-        return AuthResponse.builder()
-                .token(token)
-                .email(user.getEmail())
-                .role(user.getRole())
-                .userId(user.getId())
-                .build();
+        return toResponse(user, refreshTokenService.issue(user));
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -85,17 +78,31 @@ public class AuthService {
             User user = userRepository.findById(userPrincipal.getId())
                     .orElseThrow(() -> new UnauthorizedException("User not found"));
 
-            String token = jwtUtil.generateToken(userPrincipal, user.getRole().name());
-
-            return AuthResponse.builder()
-                    .token(token)
-                    .email(user.getEmail())
-                    .role(user.getRole())
-                    .userId(user.getId())
-                    .build();
+            return toResponse(user, refreshTokenService.issue(user));
         } catch (BadCredentialsException e) {
             throw new UnauthorizedException("Invalid email or password", "AUTH_INVALID_CREDENTIALS");
         }
     }
+
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        IssuedTokens tokens = refreshTokenService.rotate(request.getRefreshToken());
+        return toResponse(tokens.user(), tokens);
+    }
+
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+
+    private AuthResponse toResponse(User user, IssuedTokens tokens) {
+        return AuthResponse.builder()
+                .token(tokens.accessToken())
+                .tokenExpiresAt(tokens.accessTokenExpiresAt())
+                .refreshToken(tokens.refreshToken())
+                .refreshTokenExpiresAt(tokens.refreshTokenExpiresAt())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .userId(user.getId())
+                .build();
+    }
 }
 
@@ -0,0 +1,164 @@
+package com.example.freelance.service.auth;
+
+import com.example.freelance.common.exception.UnauthorizedException;
+import com.example.freelance.domain.user.RefreshToken;
+import com.example.freelance.domain.user.User;
+import com.example.freelance.domain.user.UserStatus;
+import com.example.freelance.repository.user.RefreshTokenRepository;
+import com.example.freelance.security.JwtUtil;
+import com.example.freelance.security.RevokedTokenRegistry;
+import com.example.freelance.security.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues access/refresh token pairs and rotates refresh tokens. Each refresh token can be used
+ * once; presenting an already rotated token is treated as theft and revokes its whole family,
+ * including the access tokens issued from it.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final JwtUtil jwtUtil;
+    private final long refreshExpirationMillis;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            RevokedTokenRegistry revokedTokenRegistry,
+            JwtUtil jwtUtil,
+            @Value("${jwt.refresh-expiration:2592000000}") long refreshExpirationMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.jwtUtil = jwtUtil;
+        this.refreshExpirationMillis = refreshExpirationMillis;
+    }
+
+    @Transactional
+    public IssuedTokens issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair. The user's status is re-checked here, which
+     * bounds how long a suspended account keeps working to one access token lifetime.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public IssuedTokens rotate(String rawRefreshToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token", "AUTH_INVALID_REFRESH_TOKEN"));
+
+        Instant now = Instant.now();
+        if (refreshToken.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token has expired", "AUTH_REFRESH_TOKEN_EXPIRED");
+        }
+
+        if (refreshTokenRepository.revokeIfActive(refreshToken.getId(), now) == 0) {
+            revokeFamily(refreshToken.getFamilyId(), now);
+            log.warn("Refresh token reuse detected, token family revoked: userId={}, familyId={}",
+                    refreshToken.getUser().getId(), refreshToken.getFamilyId());
+            throw new UnauthorizedException("Refresh token has already been used", "AUTH_REFRESH_TOKEN_REUSED");
+        }
+
+        User user = refreshToken.getUser();
+        if (user.getStatus() != UserStatus.ACTIVE) {
+            revokeFamily(refreshToken.getFamilyId(), now);
+            throw new UnauthorizedException("Account is not active", "AUTH_ACCOUNT_INACTIVE");
+        }
+
+        return issue(user, refreshToken.getFamilyId());
+    }
+
+    /**
+     * Logs out the session the refresh token belongs to. Unknown tokens are ignored so logout is
+     * idempotent.
+     */
+    @Transactional
+    public void revoke(String rawRefreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                .ifPresent(refreshToken -> revokeFamily(refreshToken.getFamilyId(), Instant.now()));
+    }
+
+    /**
+     * Reloads access token revocations that are still live into this node's registry, so a restart
+     * does not re-admit them and a logout or reuse detected on another node takes effect here
+     * within {@code jwt.revocation.sync-interval-ms}. Only tokens issued within one access token
+     * lifetime qualify, so the reload stays small.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jwt.revocation.sync-interval-ms:30000}",
+            fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void restoreRevocations() {
+        refreshTokenRepository.findRevokedWithLiveAccessTokens(Instant.now())
+                .forEach(token -> revokedTokenRegistry.revoke(token.getAccessTokenJti(), token.getAccessTokenExpiresAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Expired refresh tokens purged: count={}", purged);
+        }
+    }
+
+    private IssuedTokens issue(User user, String familyId) {
+        JwtUtil.AccessToken accessToken = jwtUtil.generateAccessToken(UserPrincipal.create(user));
+        String rawRefreshToken = newRawToken();
+        Instant refreshExpiresAt = Instant.now().plusMillis(refreshExpirationMillis);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(user);
+        refreshToken.setTokenHash(hash(rawRefreshToken));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setExpiresAt(refreshExpiresAt);
+        refreshToken.setAccessTokenJti(accessToken.jti());
+        refreshToken.setAccessTokenExpiresAt(accessToken.expiresAt());
+        refreshTokenRepository.save(refreshToken);
+
+        return new IssuedTokens(user, accessToken.token(), accessToken.expiresAt(), rawRefreshToken, refreshExpiresAt);
+    }
+
+    private void revokeFamily(String familyId, Instant now) {
+        refreshTokenRepository.findWithLiveAccessTokens(familyId, now)
+                .forEach(token -> revokedTokenRegistry.revoke(token.getAccessTokenJti(), token.getAccessTokenExpiresAt()));
+        refreshTokenRepository.revokeFamily(familyId, now);
+    }
+
+    private String newRawToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record IssuedTokens(User user, String accessToken, Instant accessTokenExpiresAt,
+                               String refreshToken, Instant refreshTokenExpiresAt) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.freelance.service.batch;
+
+import com.example.freelance.common.concurrency.FanOutScope;
+import com.example.freelance.common.dto.ApiResponse;
+import com.example.freelance.common.dto.ErrorDetail;
+import com.example.freelance.common.exception.BadRequestException;
+import com.example.freelance.dto.batch.BatchOperation;
+import com.example.freelance.dto.batch.BatchOperationResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Executes the GET sub-requests of a batch through the regular {@link DispatcherServlet}, so
+ * controllers, validation, method security, rate limiting and exception handling behave as for
+ * standalone calls. The batch is authenticated once by the security filter chain; URL rules are
+ * re-checked per sub-request against the same chain.
+ *
+ * <p>Each sub-request runs inside a transaction whose timeout equals the batch timeout. The
+ * services it calls join that transaction, so their queries carry the remaining time as a
+ * statement timeout, and a sub-request abandoned by the batch is cancelled by the driver instead
+ * of holding its connection.
+ */
+@Slf4j
+@Service
+public class BatchService {
+    private static final String API_PREFIX = "/api/";
+    private static final String BATCH_PATH = "/api/batch";
+    private static final Pattern SAFE_PATH = Pattern.compile("/api/[A-Za-z0-9._~\\-/]*");
+    private static final String SIZE_METRIC = "freelance.batch.size";
+    private static final String RESULT_METRIC = "freelance.batch.subrequests";
+
+    private final DispatcherServlet dispatcherServlet;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxRequests;
+    private final int maxConcurrency;
+    private final Duration timeout;
+    private final TransactionTemplate subRequestTransaction;
+
+    public BatchService(
+            DispatcherServlet dispatcherServlet,
+            WebInvocationPrivilegeEvaluator privilegeEvaluator,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${batch.max-requests:20}") int maxRequests,
+            @Value("${batch.max-concurrency:6}") int maxConcurrency,
+            @Value("${batch.timeout-ms:10000}") long timeoutMillis) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxRequests = maxRequests;
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.subRequestTransaction = new TransactionTemplate(transactionManager);
+        this.subRequestTransaction.setTimeout((int) Math.ceil(timeoutMillis / 1000.0));
+    }
+
+    public List<BatchOperationResult> execute(List<BatchOperation> operations,
+                                              HttpServletRequest batchRequest,
+                                              HttpServletResponse batchResponse) {
+        if (operations.size() > maxRequests) {
+            throw new BadRequestException("A batch can contain at most " + maxRequests + " requests", "BATCH_TOO_LARGE");
+        }
+        meterRegistry.summary(SIZE_METRIC).record(operations.size());
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        List<FanOutScope.Subtask<BatchOperationResult>> subtasks = new ArrayList<>(operations.size());
+
+        try (FanOutScope scope = new FanOutScope("batch")) {
+            for (int i = 0; i < operations.size(); i++) {
+                BatchOperation operation = operations.get(i);
+                String id = operation.getId() != null ? operation.getId() : String.valueOf(i);
+                BatchOperationResult rejected = validate(id, operation, batchRequest, securityContext.getAuthentication());
+                results.add(rejected);
+                subtasks.add(rejected != null ? null : scope.fork(() -> dispatch(id, operation.getPath(),
+                        batchRequest, batchResponse, securityContext, permits)));
+            }
+
+            try {
+                scope.join(timeout);
+            } catch (TimeoutException ex) {
+                log.warn("Batch timed out: size={}, timeoutMs={}", operations.size(), timeout.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            FanOutScope.Subtask<BatchOperationResult> subtask = subtasks.get(i);
+            if (subtask != null) {
+                String id = operations.get(i).getId() != null ? operations.get(i).getId() : String.valueOf(i);
+                results.set(i, subtask.isSuccessful()
+                        ? subtask.get()
+                        : error(id, operations.get(i).getPath(), HttpStatus.GATEWAY_TIMEOUT, "BATCH_REQUEST_TIMEOUT",
+                                "Request did not complete within the batch timeout"));
+            }
+            meterRegistry.counter(RESULT_METRIC, "status", statusClass(results.get(i).getStatus())).increment();
+        }
+        return results;
+    }
+
+    private BatchOperationResult validate(String id, BatchOperation operation, HttpServletRequest batchRequest,
+                                          Authentication authentication) {
+        if (operation.getMethod() != null && !HttpMethod.GET.matches(operation.getMethod().toUpperCase())) {
+            return error(id, operation.getPath(), HttpStatus.METHOD_NOT_ALLOWED, "BATCH_METHOD_NOT_ALLOWED",
+                    "Only GET requests can be batched");
+        }
+
+        String path;
+        try {
+            path = UriComponentsBuilder.fromUriString(operation.getPath()).build().getPath();
+        } catch (IllegalArgumentException ex) {
+            path = null;
+        }
+        if (path == null || !path.startsWith(API_PREFIX) || !SAFE_PATH.matcher(path).matches()
+                || path.contains("..") || path.contains("//")
+                || path.equals(BATCH_PATH) || path.startsWith(BATCH_PATH + "/")) {
+            return error(id, operation.getPath(), HttpStatus.BAD_REQUEST, "BATCH_INVALID_PATH",
+                    "Path must be an API path other than the batch endpoint");
+        }
+
+        if (!privilegeEvaluator.isAllowed(batchRequest.getContextPath(), path, HttpMethod.GET.name(), authentication)) {
+            return error(id, operation.getPath(), HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access denied");
+        }
+        return null;
+    }
+
+    private BatchOperationResult dispatch(String id, String pathAndQuery, HttpServletRequest batchRequest,
+                                          HttpServletResponse batchResponse, SecurityContext securityContext,
+                                          Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            InternalGetRequest request;
+            try {
+                request = new InternalGetRequest(batchRequest, pathAndQuery);
+            } catch (IllegalArgumentException ex) {
+                return error(id, pathAndQuery, HttpStatus.BAD_REQUEST, "BATCH_INVALID_PATH", "Query string is malformed");
+            }
+            BufferedResponse response = new BufferedResponse(batchResponse);
+            try {
+                subRequestTransaction.executeWithoutResult(status -> serve(request, response));
+            } catch (UnexpectedRollbackException ex) {
+                // A failure inside the sub-request marked the transaction for rollback; the error
+                // response it produced is already buffered.
+            }
+            return BatchOperationResult.builder()
+                    .id(id)
+                    .status(response.getStatus())
+                    .body(readBody(response))
+                    .build();
+        } catch (Exception ex) {
+            log.error("Batch sub-request failed: id={}, path={}", id, pathAndQuery, ex);
+            return error(id, pathAndQuery, HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR",
+                    "An unexpected error occurred");
+        } finally {
+            SecurityContextHolder.clearContext();
+            permits.release();
+        }
+    }
+
+    private void serve(InternalGetRequest request, BufferedResponse response) {
+        try {
+            dispatcherServlet.service(request, response);
+        } catch (ServletException | IOException ex) {
+            throw new IllegalStateException("Batch sub-request failed", ex);
+        }
+    }
+
+    private JsonNode readBody(BufferedResponse response) throws IOException {
+        byte[] body = response.getBody();
+        if (body.length == 0) {
+            return null;
+        }
+        if (response.isJson()) {
+            return objectMapper.readTree(body);
+        }
+        return objectMapper.getNodeFactory().textNode(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private BatchOperationResult error(String id, String path, HttpStatus status, String code, String message) {
+        ErrorDetail error = ErrorDetail.builder()
+                .code(code)
+                .message(message)
+                .status(status.value())
+                .path(path)
+                .timestamp(Instant.now())
+                .build();
+        return BatchOperationResult.builder()
+                .id(id)
+                .status(status.value())
+                .body(objectMapper.valueToTree(ApiResponse.error(error)))
+                .build();
+    }
+
+    private static String statusClass(int status) {
+        return (status / 100) + "xx";
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.freelance.service.chat;
 
+import com.example.freelance.common.dto.CursorPage;
 import com.example.freelance.common.exception.BadRequestException;
 import com.example.freelance.common.exception.ForbiddenException;
 import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.common.util.KeysetCursor;
+import com.example.freelance.common.util.TextSearchUtil;
 import com.example.freelance.domain.assignment.Assignment;
 import com.example.freelance.domain.chat.Conversation;
+import com.example.freelance.domain.chat.ConversationParticipant;
 import com.example.freelance.domain.chat.Message;
 import com.example.freelance.domain.project.Project;
 import com.example.freelance.domain.user.ClientProfile;
@@ -13,10 +17,12 @@ import com.example.freelance.domain.user.User;
 import com.example.freelance.dto.chat.ConversationResponse;
 import com.example.freelance.dto.chat.CreateConversationRequest;
 import com.example.freelance.dto.chat.MessageResponse;
+import com.example.freelance.dto.chat.MessageSearchResultResponse;
 import com.example.freelance.dto.chat.SendMessageRequest;
 import com.example.freelance.mapper.chat.ConversationMapper;
 import com.example.freelance.mapper.chat.MessageMapper;
 import com.example.freelance.repository.assignment.AssignmentRepository;
+import com.example.freelance.repository.chat.ConversationParticipantRepository;
 import com.example.freelance.repository.chat.ConversationRepository;
 import com.example.freelance.repository.chat.MessageRepository;
 import com.example.freelance.repository.project.ProjectRepository;
@@ -24,21 +30,23 @@ import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.repository.user.FreelancerProfileRepository;
 import com.example.freelance.repository.user.UserRepository;
 import com.example.freelance.security.UserPrincipal;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 public class ChatService {
     private static final String CONVERSATION_RESOURCE_NAME = "Conversation";
     private final ConversationRepository conversationRepository;
+    private final ConversationParticipantRepository conversationParticipantRepository;
     private final MessageRepository messageRepository;
     private final ProjectRepository projectRepository;
     private final AssignmentRepository assignmentRepository;
@@ -47,6 +55,50 @@ public class ChatService {
     private final UserRepository userRepository;
     private final ConversationMapper conversationMapper;
     private final MessageMapper messageMapper;
+    private final MessageTextSearch messageTextSearch;
+    private final MessageArchiveService messageArchiveService;
+    private final ConversationInboxService conversationInboxService;
+    private final PresenceService presenceService;
+    private final int maxSearchLimit;
+    private final int maxMessagesLimit;
+    private final int maxInboxLimit;
+
+    public ChatService(
+            ConversationRepository conversationRepository,
+            ConversationParticipantRepository conversationParticipantRepository,
+            MessageRepository messageRepository,
+            ProjectRepository projectRepository,
+            AssignmentRepository assignmentRepository,
+            ClientProfileRepository clientProfileRepository,
+            FreelancerProfileRepository freelancerProfileRepository,
+            UserRepository userRepository,
+            ConversationMapper conversationMapper,
+            MessageMapper messageMapper,
+            MessageTextSearch messageTextSearch,
+            MessageArchiveService messageArchiveService,
+            ConversationInboxService conversationInboxService,
+            PresenceService presenceService,
+            @Value("${chat.search.max-limit:50}") int maxSearchLimit,
+            @Value("${chat.messages.max-limit:100}") int maxMessagesLimit,
+            @Value("${chat.inbox.max-limit:100}") int maxInboxLimit) {
+        this.conversationRepository = conversationRepository;
+        this.conversationParticipantRepository = conversationParticipantRepository;
+        this.messageRepository = messageRepository;
+        this.projectRepository = projectRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.clientProfileRepository = clientProfileRepository;
+        this.freelancerProfileRepository = freelancerProfileRepository;
+        this.userRepository = userRepository;
+        this.conversationMapper = conversationMapper;
+        this.messageMapper = messageMapper;
+        this.messageTextSearch = messageTextSearch;
+        this.messageArchiveService = messageArchiveService;
+        this.conversationInboxService = conversationInboxService;
+        this.presenceService = presenceService;
+        this.maxSearchLimit = maxSearchLimit;
+        this.maxMessagesLimit = maxMessagesLimit;
+        this.maxInboxLimit = maxInboxLimit;
+    }
 
     @Transactional
     public ConversationResponse createConversation(CreateConversationRequest request) {
@@ -77,6 +129,9 @@ public class ChatService {
         conversation.setFreelancer(participants.freelancer());
 
         conversation = conversationRepository.save(conversation);
+        conversationInboxService.registerParticipants(conversation);
+        presenceService.registerConversationAfterCommit(conversation.getId(),
+                participants.client().getUser().getId(), participants.freelancer().getUser().getId());
         return mapConversationToResponse(conversation, userPrincipal.getId());
     }
 
@@ -161,14 +216,20 @@ public class ChatService {
         message.setConversation(conversation);
         message.setSender(sender);
         message.setText(request.getText());
-        message.setIsRead(false);
 
         message = messageRepository.save(message);
-        return mapMessageToResponse(message);
+        conversationInboxService.recordMessage(message);
+        advanceReadWatermark(conversation, userPrincipal.getId(), message.getId());
+        return mapMessageToResponse(message, counterpartLastReadMessageId(conversation, userPrincipal.getId()));
     }
 
-    @Transactional(readOnly = true)
-    public Page<MessageResponse> getConversationMessages(Long conversationId, Pageable pageable) {
+    /**
+     * Returns the conversation timeline newest first, continuing below {@code cursor} when given.
+     * Archived months are read from their payloads as the reader scrolls into them. Reading
+     * advances the caller's read watermark to the newest message returned.
+     */
+    @Transactional
+    public CursorPage<MessageResponse> getConversationMessages(Long conversationId, String cursor, int limit) {
         UserPrincipal userPrincipal = getCurrentUser();
         Conversation conversation = conversationRepository.findById(conversationId)
                 .orElseThrow(() -> new NotFoundException(CONVERSATION_RESOURCE_NAME, conversationId.toString()));
@@ -180,21 +241,82 @@ public class ChatService {
             throw new ForbiddenException("Access denied to this conversation", "ACCESS_DENIED");
         }
 
-        Page<Message> messages = messageRepository.findByConversationIdOrderByCreatedAtAsc(conversationId, pageable);
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(limit, maxMessagesLimit));
+        List<Message> messages = loadTimeline(conversation, before, pageSize + 1);
+
+        Long ownWatermark = messages.isEmpty()
+                ? lastReadMessageId(conversation, userPrincipal.getId())
+                : advanceReadWatermark(conversation, userPrincipal.getId(),
+                        messages.stream().mapToLong(Message::getId).max().getAsLong());
+        Long counterpartWatermark = counterpartLastReadMessageId(conversation, userPrincipal.getId());
+        List<MessageResponse> responses = messages.stream()
+                .map(message -> mapMessageToResponse(message,
+                        message.getSender().getId().equals(userPrincipal.getId()) ? counterpartWatermark : ownWatermark))
+                .toList();
+        return CursorPage.of(responses, pageSize,
+                response -> new KeysetCursor(response.getCreatedAt(), response.getId()).encode());
+    }
+
+    /**
+     * Marks the conversation as read up to {@code messageId}, or up to its newest message when no
+     * id is given. Watermarks only move forward.
+     */
+    @Transactional
+    public ConversationResponse markConversationRead(Long conversationId, Long messageId) {
+        UserPrincipal userPrincipal = getCurrentUser();
+        Conversation conversation = conversationRepository.findById(conversationId)
+                .orElseThrow(() -> new NotFoundException(CONVERSATION_RESOURCE_NAME, conversationId.toString()));
+
+        boolean isClient = conversation.getClient().getUser().getId().equals(userPrincipal.getId());
+        boolean isFreelancer = conversation.getFreelancer().getUser().getId().equals(userPrincipal.getId());
 
-        messageRepository.markMessagesAsRead(conversationId, userPrincipal.getId());
+        if (!isClient && !isFreelancer) {
+            throw new ForbiddenException("Access denied to this conversation", "ACCESS_DENIED");
+        }
 
-        return messages.map(this::mapMessageToResponse);
+        Long latestId = messageRepository.findLatestId(conversationId, messageId != null ? messageId : Long.MAX_VALUE);
+        Long ownWatermark = latestId != null
+                ? advanceReadWatermark(conversation, userPrincipal.getId(), latestId)
+                : lastReadMessageId(conversation, userPrincipal.getId());
+        long unreadCount = messageRepository.countUnreadMessages(conversationId, ownWatermark, userPrincipal.getId());
+        return mapConversationToResponse(conversation, userPrincipal.getId(), ownWatermark, unreadCount);
     }
 
+    /**
+     * Returns the caller's inbox ordered by latest activity, continuing below {@code cursor} when
+     * given. Served from the caller's participant rows, so the page is one index range scan.
+     */
     @Transactional(readOnly = true)
-    public List<ConversationResponse> getMyConversations() {
+    public CursorPage<ConversationResponse> getMyConversations(String cursor, int limit) {
         UserPrincipal userPrincipal = getCurrentUser();
-        List<Conversation> conversations = conversationRepository.findByUserId(userPrincipal.getId());
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(limit, maxInboxLimit));
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<ConversationParticipant> participants = before != null
+                ? conversationParticipantRepository.findInboxBefore(userPrincipal.getId(), before.timestamp(), before.id(), fetch)
+                : conversationParticipantRepository.findInbox(userPrincipal.getId(), fetch);
+        if (participants.isEmpty()) {
+            return CursorPage.of(List.of(), pageSize, response -> null);
+        }
 
-        return conversations.stream()
-                .map(c -> mapConversationToResponse(c, userPrincipal.getId()))
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (Object[] row : messageRepository.countUnreadMessagesByConversationIds(
+                participants.stream().map(p -> p.getConversation().getId()).toList(), userPrincipal.getId())) {
+            unreadCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<ConversationResponse> responses = participants.stream()
+                .map(p -> {
+                    Conversation c = p.getConversation();
+                    ConversationResponse response = mapConversationToResponse(c, userPrincipal.getId(),
+                            lastReadMessageId(c, userPrincipal.getId()), unreadCounts.getOrDefault(c.getId(), 0L));
+                    response.setLastActivityAt(p.getLastActivityAt());
+                    return response;
+                })
                 .toList();
+        return CursorPage.of(responses, pageSize,
+                response -> new KeysetCursor(response.getLastActivityAt(), response.getId()).encode());
     }
 
     @Transactional(readOnly = true)
@@ -213,20 +335,117 @@ public class ChatService {
         return mapConversationToResponse(conversation, userPrincipal.getId());
     }
 
+    /**
+     * Searches the messages of the caller's conversations, newest first. Conversations the caller
+     * does not take part in never match, including when asked for by {@code conversationId}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MessageSearchResultResponse> searchMessages(String query, Long conversationId, String cursor, int limit) {
+        List<String> terms = TextSearchUtil.parseQuery(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must contain at least one word", "INVALID_SEARCH_QUERY");
+        }
+        int pageSize = Math.max(1, Math.min(limit, maxSearchLimit));
+        UserPrincipal userPrincipal = getCurrentUser();
+
+        List<MessageSearchResultResponse> results = messageTextSearch
+                .search(userPrincipal.getId(), conversationId, terms, KeysetCursor.decode(cursor), pageSize + 1)
+                .stream()
+                .map(hit -> MessageSearchResultResponse.builder()
+                        .messageId(hit.messageId())
+                        .conversationId(hit.conversationId())
+                        .senderId(hit.senderId())
+                        .senderEmail(hit.senderEmail())
+                        .snippet(hit.snippet())
+                        .createdAt(hit.createdAt())
+                        .build())
+                .toList();
+        return CursorPage.of(results, pageSize,
+                result -> new KeysetCursor(result.getCreatedAt(), result.getMessageId()).encode());
+    }
 
     private UserPrincipal getCurrentUser() {
         return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
 
+    /**
+     * Newest messages first, starting below {@code before}. Archived months are strictly older than
+     * anything left in the hot table, so a page the hot table cannot fill continues into the
+     * archive below its oldest message.
+     */
+    private List<Message> loadTimeline(Conversation conversation, KeysetCursor before, int fetchSize) {
+        List<Message> messages = new ArrayList<>(before != null
+                ? messageRepository.findByConversationIdBefore(conversation.getId(), before.timestamp(), before.id(),
+                        PageRequest.of(0, fetchSize))
+                : messageRepository.findLatestByConversationId(conversation.getId(), PageRequest.of(0, fetchSize)));
+        if (messages.size() < fetchSize) {
+            KeysetCursor boundary = messages.isEmpty() ? before : keyOf(messages.get(messages.size() - 1));
+            messages.addAll(messageArchiveService.findBefore(conversation, boundary, fetchSize - messages.size()));
+        }
+        return messages;
+    }
+
+    private static KeysetCursor keyOf(Message message) {
+        return new KeysetCursor(message.getCreatedAt(), message.getId());
+    }
+
+    /**
+     * Moves the participant's watermark forward with a single-column update. The loaded entity is
+     * left untouched so it is never flushed as a whole row.
+     *
+     * @return the participant's watermark after the update
+     */
+    private Long advanceReadWatermark(Conversation conversation, Long userId, Long messageId) {
+        Long current = lastReadMessageId(conversation, userId);
+        if (messageId <= current) {
+            return current;
+        }
+        if (isClientUser(conversation, userId)) {
+            conversationRepository.advanceClientReadWatermark(conversation.getId(), messageId);
+        } else {
+            conversationRepository.advanceFreelancerReadWatermark(conversation.getId(), messageId);
+        }
+        return messageId;
+    }
+
+    private static boolean isClientUser(Conversation conversation, Long userId) {
+        return conversation.getClient().getUser().getId().equals(userId);
+    }
+
+    private static Long lastReadMessageId(Conversation conversation, Long userId) {
+        return isClientUser(conversation, userId)
+                ? conversation.getClientLastReadMessageId()
+                : conversation.getFreelancerLastReadMessageId();
+    }
+
+    private static Long counterpartLastReadMessageId(Conversation conversation, Long userId) {
+        return isClientUser(conversation, userId)
+                ? conversation.getFreelancerLastReadMessageId()
+                : conversation.getClientLastReadMessageId();
+    }
+
     private ConversationResponse mapConversationToResponse(Conversation conversation, Long currentUserId) {
+        Long ownWatermark = lastReadMessageId(conversation, currentUserId);
+        long unreadCount = messageRepository.countUnreadMessages(conversation.getId(), ownWatermark, currentUserId);
+        return mapConversationToResponse(conversation, currentUserId, ownWatermark, unreadCount);
+    }
+
+    private ConversationResponse mapConversationToResponse(Conversation conversation, Long currentUserId,
+                                                           Long ownWatermark, long unreadCount) {
         ConversationResponse response = conversationMapper.toResponse(conversation);
-        Long unreadCount = messageRepository.countUnreadMessages(conversation.getId(), currentUserId);
         response.setUnreadCount(unreadCount);
+        response.setLastReadMessageId(ownWatermark);
+        response.setCounterpartLastReadMessageId(counterpartLastReadMessageId(conversation, currentUserId));
         return response;
     }
 
-    private MessageResponse mapMessageToResponse(Message message) {
-        return messageMapper.toResponse(message);
+    /**
+     * @param readerWatermark read watermark of the participant who received the message
+     */
+    private MessageResponse mapMessageToResponse(Message message, Long readerWatermark) {
+        MessageResponse response = messageMapper.toResponse(message);
+        response.setIsRead(message.getId() <= readerWatermark);
+        return response;
     }
 }
 
@@ -0,0 +1,124 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.domain.chat.Conversation;
+import com.example.freelance.domain.chat.ConversationParticipant;
+import com.example.freelance.domain.chat.Message;
+import com.example.freelance.repository.chat.ConversationParticipantRepository;
+import com.example.freelance.repository.chat.ConversationRepository;
+import com.example.freelance.repository.chat.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Keeps the inbox read model current: the participant rows a user's inbox is served from and the
+ * last-message preview on each conversation. Both are written with conditional single-statement
+ * updates so concurrent senders can only move them forward.
+ */
+@Slf4j
+@Service
+public class ConversationInboxService {
+    private static final int PREVIEW_LENGTH = 140;
+
+    private final ConversationRepository conversationRepository;
+    private final ConversationParticipantRepository participantRepository;
+    private final MessageRepository messageRepository;
+    private final TransactionTemplate transaction;
+    private final int backfillBatchSize;
+
+    public ConversationInboxService(
+            ConversationRepository conversationRepository,
+            ConversationParticipantRepository participantRepository,
+            MessageRepository messageRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.inbox.backfill-batch-size:500}") int backfillBatchSize) {
+        this.conversationRepository = conversationRepository;
+        this.participantRepository = participantRepository;
+        this.messageRepository = messageRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    public void registerParticipants(Conversation conversation) {
+        registerParticipants(conversation, conversation.getCreatedAt());
+    }
+
+    public void recordMessage(Message message) {
+        Long conversationId = message.getConversation().getId();
+        conversationRepository.updateLastMessage(conversationId, message.getId(), message.getCreatedAt(), preview(message.getText()));
+        participantRepository.touch(conversationId, message.getCreatedAt());
+    }
+
+    /**
+     * Creates participant rows and last-message previews for conversations that predate them.
+     * Runs in batches until every conversation has participants, so it is a no-op once done.
+     * Each conversation is handled in its own transaction under a lock on its row, so nodes
+     * starting together skip what another node has already backfilled instead of colliding on
+     * the participant unique key.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int backfilled = 0;
+        while (true) {
+            List<Long> conversationIds = conversationRepository.findIdsWithoutParticipants(PageRequest.of(0, backfillBatchSize));
+            if (conversationIds.isEmpty()) {
+                break;
+            }
+            for (Long conversationId : conversationIds) {
+                if (Boolean.TRUE.equals(transaction.execute(status -> backfill(conversationId)))) {
+                    backfilled++;
+                }
+            }
+        }
+        if (backfilled > 0) {
+            log.info("Conversation inbox backfilled: conversations={}", backfilled);
+        }
+    }
+
+    private boolean backfill(Long conversationId) {
+        Conversation conversation = conversationRepository.findByIdForUpdate(conversationId).orElse(null);
+        if (conversation == null || participantRepository.existsByConversationId(conversationId)) {
+            return false;
+        }
+        List<Message> latest = messageRepository.findLatestByConversationId(conversationId, PageRequest.of(0, 1));
+        if (latest.isEmpty()) {
+            registerParticipants(conversation, conversation.getCreatedAt());
+        } else {
+            Message message = latest.get(0);
+            registerParticipants(conversation, message.getCreatedAt());
+            conversationRepository.updateLastMessage(conversationId, message.getId(),
+                    message.getCreatedAt(), preview(message.getText()));
+        }
+        return true;
+    }
+
+    private void registerParticipants(Conversation conversation, Instant lastActivityAt) {
+        participantRepository.saveAll(List.of(
+                participant(conversation, conversation.getClient().getUser().getId(), lastActivityAt),
+                participant(conversation, conversation.getFreelancer().getUser().getId(), lastActivityAt)));
+    }
+
+    private static ConversationParticipant participant(Conversation conversation, Long userId, Instant lastActivityAt) {
+        ConversationParticipant participant = new ConversationParticipant();
+        participant.setConversation(conversation);
+        participant.setUserId(userId);
+        participant.setLastActivityAt(lastActivityAt);
+        return participant;
+    }
+
+    static String preview(String text) {
+        if (text == null) {
+            return null;
+        }
+        String collapsed = text.strip().replaceAll("\\s+", " ");
+        return collapsed.length() <= PREVIEW_LENGTH ? collapsed : collapsed.substring(0, PREVIEW_LENGTH) + "...";
+    }
+}
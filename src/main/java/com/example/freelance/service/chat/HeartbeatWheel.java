@@ -0,0 +1,56 @@
+package com.example.freelance.service.chat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hashed timing wheel of presence deadlines. A user sits in the slot of the tick their heartbeat
+ * expires at, so each expiry pass only visits the users due in the slots it passes over instead
+ * of scanning everyone online. A later heartbeat schedules the user again without removing the
+ * older entry, so callers must re-check the deadline of every user the wheel hands back.
+ */
+final class HeartbeatWheel {
+    private final long tickMillis;
+    private final List<Set<Long>> slots;
+    private long currentTick;
+
+    HeartbeatWheel(long tickMillis, int slotCount, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    void schedule(Long userId, long deadlineMillis) {
+        long tick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        slots.get(slotOf(tick)).add(userId);
+    }
+
+    /**
+     * Moves the wheel up to {@code nowMillis} and drains the slots passed on the way.
+     *
+     * @return users whose deadline may have passed
+     */
+    synchronized List<Long> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<Long> due = new ArrayList<>();
+        for (long tick = Math.max(currentTick + 1, nowTick - slots.size() + 1); tick <= nowTick; tick++) {
+            Iterator<Long> slot = slots.get(slotOf(tick)).iterator();
+            while (slot.hasNext()) {
+                due.add(slot.next());
+                slot.remove();
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+        return due;
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.freelance.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+
+/**
+ * One-off move from per-message {@code is_read} flags to the read watermarks on
+ * {@code conversations}, in two separate steps. The backfill raises each participant's watermark
+ * to the newest message from the other participant that was flagged as read, and makes the flag
+ * column nullable so new messages can be written without it; a nullable column marks the
+ * backfill as done. Dropping the column is destructive and stays off until
+ * {@code chat.read-state.drop-legacy-column} is switched on, once the watermarks are verified.
+ *
+ * <p>The schema has no migrations, so both steps run on startup before the application serves
+ * requests. Watermarks only move forward and the drop is {@code IF EXISTS}, so nodes starting
+ * together can both run them.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class LegacyReadStateMigration {
+    private static final String LEGACY_COLUMN_NULLABLE =
+            "SELECT is_nullable FROM information_schema.columns " +
+            "WHERE table_schema = current_schema AND LOWER(table_name) = 'messages' AND LOWER(column_name) = 'is_read'";
+    private static final String BACKFILL_CLIENT_WATERMARKS =
+            "UPDATE conversations c SET client_last_read_message_id = GREATEST(c.client_last_read_message_id, " +
+            "COALESCE((SELECT MAX(m.id) FROM messages m JOIN freelancer_profiles fp ON fp.id = c.freelancer_id " +
+            "WHERE m.conversation_id = c.id AND m.sender_id = fp.user_id AND m.is_read = TRUE), 0))";
+    private static final String BACKFILL_FREELANCER_WATERMARKS =
+            "UPDATE conversations c SET freelancer_last_read_message_id = GREATEST(c.freelancer_last_read_message_id, " +
+            "COALESCE((SELECT MAX(m.id) FROM messages m JOIN client_profiles cp ON cp.id = c.client_id " +
+            "WHERE m.conversation_id = c.id AND m.sender_id = cp.user_id AND m.is_read = TRUE), 0))";
+    private static final String RELAX_LEGACY_COLUMN = "ALTER TABLE messages ALTER COLUMN is_read DROP NOT NULL";
+    private static final String DROP_LEGACY_COLUMN = "ALTER TABLE messages DROP COLUMN IF EXISTS is_read";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final boolean dropLegacyColumn;
+
+    public LegacyReadStateMigration(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.read-state.migrate-legacy:true}") boolean enabled,
+            @Value("${chat.read-state.drop-legacy-column:false}") boolean dropLegacyColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.dropLegacyColumn = dropLegacyColumn;
+    }
+
+    @PostConstruct
+    void migrate() {
+        if (!enabled) {
+            return;
+        }
+        List<String> nullable = jdbcTemplate.queryForList(LEGACY_COLUMN_NULLABLE, String.class);
+        if (nullable.isEmpty()) {
+            return;
+        }
+        if ("NO".equalsIgnoreCase(nullable.get(0))) {
+            backfill();
+        }
+        if (dropLegacyColumn) {
+            transaction.executeWithoutResult(status -> jdbcTemplate.execute(DROP_LEGACY_COLUMN));
+            log.info("Legacy message read flag column dropped");
+        }
+    }
+
+    private void backfill() {
+        transaction.executeWithoutResult(status -> {
+            int clients = jdbcTemplate.update(BACKFILL_CLIENT_WATERMARKS);
+            int freelancers = jdbcTemplate.update(BACKFILL_FREELANCER_WATERMARKS);
+            jdbcTemplate.execute(RELAX_LEGACY_COLUMN);
+            log.info("Legacy message read flags migrated to watermarks: clientWatermarks={}, freelancerWatermarks={}",
+                    clients, freelancers);
+        });
+    }
+}
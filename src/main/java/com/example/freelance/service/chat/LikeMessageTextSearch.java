@@ -0,0 +1,64 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.common.util.KeysetCursor;
+import com.example.freelance.common.util.TextSearchUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Portable message search for databases without full-text indexes (H2 in tests). Every term is
+ * matched as a case-insensitive substring, which finds a superset of the word-prefix matches of
+ * the Postgres engine, and snippets are built in the JVM. Authorization and keyset paging are
+ * identical to {@link PostgresMessageTextSearch}.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeMessageTextSearch implements MessageTextSearch {
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public LikeMessageTextSearch(NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<Hit> search(Long userId, Long conversationId, List<String> terms, KeysetCursor before, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            where.append(" AND LOWER(m.text) LIKE :term").append(i);
+            params.addValue("term" + i, "%" + terms.get(i) + "%");
+        }
+        if (conversationId != null) {
+            where.append(" AND m.conversation_id = :conversationId");
+            params.addValue("conversationId", conversationId);
+        }
+        if (before != null) {
+            where.append(" AND (m.created_at < :beforeCreatedAt OR (m.created_at = :beforeCreatedAt AND m.id < :beforeId))");
+            params.addValue("beforeCreatedAt", Timestamp.from(before.timestamp()))
+                    .addValue("beforeId", before.id());
+        }
+
+        return namedJdbcTemplate.query(
+                "SELECT m.id, m.conversation_id, m.sender_id, u.email AS sender_email, m.text, m.created_at " +
+                "FROM conversation_participants cp " +
+                "JOIN messages m ON m.conversation_id = cp.conversation_id " +
+                "JOIN users u ON u.id = m.sender_id " +
+                "WHERE cp.user_id = :userId" + where +
+                " ORDER BY m.created_at DESC, m.id DESC LIMIT :limit",
+                params,
+                (rs, rowNum) -> new Hit(
+                        rs.getLong("id"),
+                        rs.getLong("conversation_id"),
+                        rs.getLong("sender_id"),
+                        rs.getString("sender_email"),
+                        TextSearchUtil.snippet(rs.getString("text"), terms),
+                        rs.getTimestamp("created_at").toInstant()));
+    }
+}
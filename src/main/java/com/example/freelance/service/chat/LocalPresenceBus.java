@@ -0,0 +1,57 @@
+package com.example.freelance.service.chat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for a broker-backed bus, for single-node deployments and tests. Each
+ * envelope is fanned out on its own virtual thread, so a slow or stalled stream never holds up
+ * the request that published the event. Envelopes may therefore reach a recipient out of order;
+ * every event carries its {@code occurredAt}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.presence.bus", havingValue = "local", matchIfMissing = true)
+public class LocalPresenceBus implements PresenceBus {
+    private final List<Consumer<Envelope>> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("presence-bus-", 0).factory());
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void publish(Envelope envelope) {
+        try {
+            executor.execute(() -> deliver(envelope));
+        } catch (RejectedExecutionException ex) {
+            log.debug("Presence event dropped during shutdown: eventType={}", envelope.event().getType());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Envelope> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    private void deliver(Envelope envelope) {
+        for (Consumer<Envelope> subscriber : subscribers) {
+            try {
+                subscriber.accept(envelope);
+            } catch (RuntimeException ex) {
+                log.warn("Presence subscriber failed: eventType={}, error={}", envelope.event().getType(), ex.getMessage());
+            }
+        }
+    }
+}
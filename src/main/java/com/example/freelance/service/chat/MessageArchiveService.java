@@ -0,0 +1,266 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.common.util.KeysetCursor;
+import com.example.freelance.domain.chat.ArchivedMessage;
+import com.example.freelance.domain.chat.Conversation;
+import com.example.freelance.domain.chat.Message;
+import com.example.freelance.domain.chat.MessageArchive;
+import com.example.freelance.repository.chat.ConversationRepository;
+import com.example.freelance.repository.chat.MessageArchiveRepository;
+import com.example.freelance.repository.chat.MessageRepository;
+import com.example.freelance.repository.user.UserRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves old messages out of the {@code messages} table into compressed monthly
+ * {@link MessageArchive} rows, keeping the hot table and its indexes bounded by the retention
+ * window rather than by the age of the platform.
+ *
+ * <p>Readers that page past the hot table are served straight from the decoded payloads, which
+ * are cached by archive id and message count; nothing is ever copied back into {@code messages}.
+ * Once every conversation of a month is archived, {@link MessagePartitionManager} drops the
+ * month's emptied partition.
+ */
+@Slf4j
+@Service
+public class MessageArchiveService {
+    private static final String ARCHIVE_METRIC = "freelance.chat.archive.messages";
+    private static final TypeReference<List<ArchivedMessage>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+    private static final Comparator<ArchivedMessage> NEWEST_FIRST =
+            Comparator.comparing(ArchivedMessage::createdAt).thenComparing(ArchivedMessage::id).reversed();
+
+    private final MessageRepository messageRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final ConversationRepository conversationRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transaction;
+    private final Cache<ArchiveVersion, List<ArchivedMessage>> decoded;
+    private final boolean enabled;
+    private final long archiveAfterDays;
+    private final int conversationsPerRun;
+
+    public MessageArchiveService(
+            MessageRepository messageRepository,
+            MessageArchiveRepository messageArchiveRepository,
+            ConversationRepository conversationRepository,
+            UserRepository userRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.archive.enabled:true}") boolean enabled,
+            @Value("${chat.archive.after-days:180}") long archiveAfterDays,
+            @Value("${chat.archive.conversations-per-run:500}") int conversationsPerRun,
+            @Value("${chat.archive.cache.max-size:200}") long cacheMaxSize,
+            @Value("${chat.archive.cache.ttl-seconds:600}") long cacheTtlSeconds) {
+        this.messageRepository = messageRepository;
+        this.messageArchiveRepository = messageArchiveRepository;
+        this.conversationRepository = conversationRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.decoded = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterAccess(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, decoded, "messageArchive");
+        this.enabled = enabled;
+        this.archiveAfterDays = archiveAfterDays;
+        this.conversationsPerRun = conversationsPerRun;
+    }
+
+    /**
+     * Archives every complete month older than {@code chat.archive.after-days}, one conversation
+     * month per transaction.
+     */
+    @Scheduled(initialDelayString = "${chat.archive.interval-ms:3600000}",
+            fixedDelayString = "${chat.archive.interval-ms:3600000}")
+    public void archiveOldMessages() {
+        if (!enabled) {
+            return;
+        }
+        Instant cutoff = startOfMonth(Instant.now().minus(Duration.ofDays(archiveAfterDays)));
+        List<Long> conversationIds = messageRepository.findConversationIdsWithMessagesBefore(
+                cutoff, PageRequest.of(0, conversationsPerRun));
+        int archived = 0;
+        for (Long conversationId : conversationIds) {
+            archived += archiveConversation(conversationId, cutoff);
+        }
+        if (archived > 0) {
+            log.info("Messages archived: conversations={}, messages={}, cutoff={}", conversationIds.size(), archived, cutoff);
+        }
+    }
+
+    /**
+     * Archived messages of a conversation below {@code before}, newest first, as detached
+     * {@link Message} instances that must not be saved. Only as many monthly payloads are decoded
+     * as it takes to fill {@code limit}.
+     *
+     * @param before exclusive upper bound, or {@code null} to start at the newest archived message
+     */
+    public List<Message> findBefore(Conversation conversation, KeysetCursor before, int limit) {
+        Instant upTo = before != null ? before.timestamp() : Instant.now();
+        List<Message> messages = new ArrayList<>(limit);
+        for (Object[] row : messageArchiveRepository.findVersionsStartingAtOrBefore(conversation.getId(), upTo)) {
+            ArchiveVersion version = new ArchiveVersion((Long) row[0], (Integer) row[1]);
+            for (ArchivedMessage archived : decoded.get(version, this::load)) {
+                if (before == null || isBefore(archived, before)) {
+                    messages.add(toMessage(conversation, archived));
+                    if (messages.size() == limit) {
+                        return messages;
+                    }
+                }
+            }
+        }
+        return messages;
+    }
+
+    private int archiveConversation(Long conversationId, Instant cutoff) {
+        int archived = 0;
+        Instant from = Instant.EPOCH;
+        while (true) {
+            Instant oldest = messageRepository.findOldestCreatedAt(conversationId, from, cutoff);
+            if (oldest == null) {
+                return archived;
+            }
+            Instant periodStart = startOfMonth(oldest);
+            Instant periodEnd = periodStart.atOffset(ZoneOffset.UTC).plusMonths(1).toInstant();
+            Integer count = transaction.execute(status -> archiveMonth(conversationId, periodStart, periodEnd));
+            archived += count != null ? count : 0;
+            from = periodEnd;
+        }
+    }
+
+    /**
+     * Archives one conversation month. Should the month already have an archive, the rows still in
+     * {@code messages} are merged into its payload first, so rows are only ever deleted once they
+     * are part of an archive.
+     */
+    private int archiveMonth(Long conversationId, Instant periodStart, Instant periodEnd) {
+        List<Message> messages = messageRepository.findByConversationIdAndCreatedAtBetween(conversationId, periodStart, periodEnd);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        List<ArchivedMessage> payload = messages.stream().map(ArchivedMessage::of).toList();
+
+        MessageArchive archive = messageArchiveRepository
+                .findByConversationIdAndPeriodStartForUpdate(conversationId, periodStart)
+                .orElse(null);
+        if (archive == null) {
+            archive = new MessageArchive();
+            archive.setConversation(conversationRepository.getReferenceById(conversationId));
+            archive.setPeriodStart(periodStart);
+            archive.setPeriodEnd(periodEnd);
+        } else {
+            payload = merge(decode(archive.getPayload()), payload);
+        }
+        archive.setMessageCount(payload.size());
+        archive.setPayload(encode(payload));
+        messageArchiveRepository.save(archive);
+        messageRepository.deleteByConversationIdAndCreatedAtBetween(conversationId, periodStart, periodEnd);
+
+        meterRegistry.counter(ARCHIVE_METRIC, "action", "archived").increment(messages.size());
+        return messages.size();
+    }
+
+    private List<ArchivedMessage> load(ArchiveVersion version) {
+        byte[] payload = messageArchiveRepository.findPayloadById(version.archiveId()).orElse(null);
+        if (payload == null) {
+            return List.of();
+        }
+        List<ArchivedMessage> messages = new ArrayList<>(decode(payload));
+        messages.sort(NEWEST_FIRST);
+        meterRegistry.counter(ARCHIVE_METRIC, "action", "decoded").increment(messages.size());
+        return List.copyOf(messages);
+    }
+
+    private Message toMessage(Conversation conversation, ArchivedMessage archived) {
+        Message message = new Message();
+        message.setId(archived.id());
+        message.setConversation(conversation);
+        message.setSender(userRepository.getReferenceById(archived.senderId()));
+        message.setText(archived.text());
+        message.setAttachmentPath(archived.attachmentPath());
+        message.setAttachmentName(archived.attachmentName());
+        message.setCreatedAt(archived.createdAt());
+        message.setUpdatedAt(archived.updatedAt());
+        return message;
+    }
+
+    private byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode message archive", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ArchivedMessage> decode(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, PAYLOAD_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode message archive", e);
+        }
+    }
+
+    private static List<ArchivedMessage> merge(List<ArchivedMessage> archived, List<ArchivedMessage> leftover) {
+        Set<Long> archivedIds = archived.stream().map(ArchivedMessage::id).collect(Collectors.toSet());
+        List<ArchivedMessage> merged = new ArrayList<>(archived);
+        leftover.stream().filter(message -> !archivedIds.contains(message.id())).forEach(merged::add);
+        merged.sort(Comparator.comparing(ArchivedMessage::createdAt).thenComparing(ArchivedMessage::id));
+        return merged;
+    }
+
+    private static boolean isBefore(ArchivedMessage message, KeysetCursor cursor) {
+        int byTime = message.createdAt().compareTo(cursor.timestamp());
+        return byTime < 0 || (byTime == 0 && message.id() < cursor.id());
+    }
+
+    private static Instant startOfMonth(Instant instant) {
+        LocalDate date = instant.atOffset(ZoneOffset.UTC).toLocalDate().withDayOfMonth(1);
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Cache key of a decoded payload. The message count grows with every merge, so a merged
+     * archive is decoded afresh on every node.
+     */
+    private record ArchiveVersion(Long archiveId, Integer messageCount) {
+    }
+}
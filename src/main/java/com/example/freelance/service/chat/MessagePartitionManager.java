@@ -0,0 +1,192 @@
+package com.example.freelance.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps {@code messages} range-partitioned by month on {@code created_at}. Timeline reads order by
+ * {@code created_at DESC} with a limit, so Postgres walks the partitions newest first and stops as
+ * soon as the page is full; reads with a cursor also prune every partition above it.
+ *
+ * <p>The schema has no migrations, so the table is converted on startup unless
+ * {@code chat.partitioning.enabled} is switched off. The existing table is attached unchanged as
+ * one partition holding everything up to the end of the current month, which costs an index
+ * build on {@code (id, created_at)} and one range check but copies no rows. Monthly partitions
+ * are created ahead of time; partitions the archiver has emptied are dropped, which gives their
+ * space back without vacuum. A partition that still holds rows is never dropped.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "chat.partitioning.enabled", havingValue = "true")
+public class MessagePartitionManager {
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("messages_p(\\d{4})_(\\d{2})");
+    private static final Pattern INITIAL_PARTITION = Pattern.compile("messages_before_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('messages_partitions'))";
+    private static final String IS_PARTITIONED =
+            "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass('messages')";
+    private static final String PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass('messages')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final int premakeMonths;
+    private final long archiveAfterDays;
+
+    public MessagePartitionManager(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.partitioning.premake-months:3}") int premakeMonths,
+            @Value("${chat.archive.after-days:180}") long archiveAfterDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.premakeMonths = premakeMonths;
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    @PostConstruct
+    void ensurePartitioned() {
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute(LOCK);
+            Integer partitioned = jdbcTemplate.queryForObject(IS_PARTITIONED, Integer.class);
+            if (partitioned == null || partitioned == 0) {
+                convert(YearMonth.now(ZoneOffset.UTC).plusMonths(1));
+            }
+        });
+        maintainPartitions();
+    }
+
+    /**
+     * Creates the partitions for the coming {@code chat.partitioning.premake-months} and drops
+     * emptied partitions older than the archive cutoff. Every node may run this; the work is
+     * serialized by an advisory lock.
+     */
+    @Scheduled(initialDelayString = "${chat.partitioning.interval-ms:3600000}",
+            fixedDelayString = "${chat.partitioning.interval-ms:3600000}")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth cutoff = YearMonth.from(Instant.now().minus(Duration.ofDays(archiveAfterDays)).atOffset(ZoneOffset.UTC));
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute(LOCK);
+            List<String> partitions = jdbcTemplate.queryForList(PARTITIONS, String.class);
+            YearMonth coveredUntil = partitions.stream()
+                    .map(MessagePartitionManager::upperBound)
+                    .filter(Objects::nonNull)
+                    .max(YearMonth::compareTo)
+                    .orElse(current);
+            for (YearMonth month = coveredUntil; !month.isAfter(current.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) +
+                        " PARTITION OF messages FOR VALUES FROM (" + literal(month) + ") TO (" + literal(month.plusMonths(1)) + ")");
+            }
+            for (String partition : partitions) {
+                YearMonth upper = upperBound(partition);
+                if (upper != null && !upper.isAfter(cutoff)) {
+                    dropIfEmpty(partition);
+                }
+            }
+        });
+    }
+
+    /**
+     * Swaps the plain table for a partitioned one with the same columns, keys and indexes, and
+     * attaches the old table as the partition for everything before {@code boundary}. The
+     * identity column becomes a plain sequence default, since a partitioned table cannot carry
+     * an identity column before Postgres 17.
+     */
+    private void convert(YearMonth boundary) {
+        String initial = "messages_before_" + boundary.format(MONTH_SUFFIX);
+        jdbcTemplate.execute("LOCK TABLE messages IN ACCESS EXCLUSIVE MODE");
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM messages", Long.class);
+        List<String> primaryKeys = jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = 'messages'::regclass AND contype = 'p'", String.class);
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint " +
+                "WHERE conrelid = 'messages'::regclass AND contype = 'f'");
+        for (String primaryKey : primaryKeys) {
+            jdbcTemplate.execute("ALTER TABLE messages DROP CONSTRAINT " + primaryKey);
+        }
+        List<Map<String, Object>> indexes = jdbcTemplate.queryForList(
+                "SELECT c.relname AS name, pg_get_indexdef(i.indexrelid) AS definition " +
+                "FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE i.indrelid = 'messages'::regclass");
+
+        jdbcTemplate.execute("ALTER TABLE messages RENAME TO " + initial);
+        for (int i = 0; i < indexes.size(); i++) {
+            jdbcTemplate.execute("ALTER INDEX " + indexes.get(i).get("name") + " RENAME TO " + initial + "_idx" + (i + 1));
+        }
+        jdbcTemplate.execute("ALTER TABLE " + initial + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        jdbcTemplate.execute("ALTER TABLE " + initial + " ALTER COLUMN id DROP DEFAULT");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS messages_id_seq");
+
+        jdbcTemplate.execute("CREATE TABLE messages (LIKE " + initial +
+                " INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS) PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE messages ALTER COLUMN id SET DEFAULT nextval('messages_id_seq')");
+        jdbcTemplate.execute("ALTER SEQUENCE messages_id_seq OWNED BY messages.id");
+        jdbcTemplate.queryForObject("SELECT setval('messages_id_seq', ?, false)", Long.class, maxId + 1);
+        jdbcTemplate.execute("ALTER TABLE messages ADD CONSTRAINT messages_pkey PRIMARY KEY (id, created_at)");
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE messages ADD CONSTRAINT " + foreignKey.get("conname") + " " + foreignKey.get("definition"));
+        }
+        for (Map<String, Object> index : indexes) {
+            jdbcTemplate.execute((String) index.get("definition"));
+        }
+
+        jdbcTemplate.execute("ALTER TABLE messages ATTACH PARTITION " + initial +
+                " FOR VALUES FROM (MINVALUE) TO (" + literal(boundary) + ")");
+        log.info("Messages table partitioned: initialPartition={}, indexes={}, foreignKeys={}",
+                initial, indexes.size(), foreignKeys.size());
+    }
+
+    private void dropIfEmpty(String partition) {
+        jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+        Boolean hasRows = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+        if (Boolean.FALSE.equals(hasRows)) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Emptied message partition dropped: partition={}", partition);
+        }
+    }
+
+    /**
+     * First month not covered by a partition this class created, or {@code null} for names it
+     * does not own.
+     */
+    private static YearMonth upperBound(String partition) {
+        Matcher monthly = MONTHLY_PARTITION.matcher(partition);
+        if (monthly.matches()) {
+            return YearMonth.of(Integer.parseInt(monthly.group(1)), Integer.parseInt(monthly.group(2))).plusMonths(1);
+        }
+        Matcher initial = INITIAL_PARTITION.matcher(partition);
+        if (initial.matches()) {
+            return YearMonth.of(Integer.parseInt(initial.group(1)), Integer.parseInt(initial.group(2)));
+        }
+        return null;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "messages_p" + month.format(MONTH_SUFFIX);
+    }
+
+    private static String literal(YearMonth month) {
+        return "'" + month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant() + "'";
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.common.util.KeysetCursor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Keyword search over the messages of the conversations a user takes part in. Participation is
+ * checked by the search query itself, so a page is never thinned out after the fact. Hits are
+ * ordered newest first and paged by keyset on {@code (createdAt, id)}.
+ *
+ * <p>Only the hot {@code messages} table is searched. Months moved out by
+ * {@link MessageArchiveService} live in compressed payloads without a text index, so messages
+ * older than {@code chat.archive.after-days} are not found.
+ */
+public interface MessageTextSearch {
+
+    /**
+     * @param terms          query terms as produced by {@link com.example.freelance.common.util.TextSearchUtil#parseQuery}
+     * @param conversationId restricts the search to one conversation, or {@code null} for all
+     * @param before         only messages strictly older than this position, or {@code null}
+     * @param limit          maximum number of hits to return
+     */
+    List<Hit> search(Long userId, Long conversationId, List<String> terms, KeysetCursor before, int limit);
+
+    /**
+     * A matching message with an excerpt in which matched words are wrapped in {@code <mark>}
+     * tags.
+     */
+    record Hit(Long messageId, Long conversationId, Long senderId, String senderEmail, String snippet, Instant createdAt) {
+    }
+}
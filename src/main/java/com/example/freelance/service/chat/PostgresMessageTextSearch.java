@@ -0,0 +1,112 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.common.util.KeysetCursor;
+import com.example.freelance.common.util.TextSearchUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Message search backed by a stored, generated {@code tsvector} column on {@code messages} and a
+ * composite GIN index on {@code (conversation_id, search_vector)}. The user's conversations are
+ * read from {@code conversation_participants} first, and the index is probed once per
+ * conversation with the keyset predicate and limit applied, so a common word costs the size of
+ * the user's own matches rather than a scan of every match on the platform. {@code ts_headline}
+ * only runs for the rows that are returned.
+ *
+ * <p>The schema has no migrations, so the column and index are created idempotently on startup
+ * unless {@code chat.search.manage-schema} is switched off. The composite index needs the
+ * {@code btree_gin} extension, which is trusted and can be created by the database owner.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "chat.search.engine", havingValue = "postgres")
+public class PostgresMessageTextSearch implements MessageTextSearch {
+    private static final String TEXT_SEARCH_CONFIG = "english";
+    private static final String HEADLINE_OPTIONS = "StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2";
+    private static final List<String> SCHEMA_DDL = List.of(
+            "ALTER TABLE messages ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+            "to_tsvector('english', coalesce(text, ''))) STORED",
+            "CREATE EXTENSION IF NOT EXISTS btree_gin",
+            "CREATE INDEX IF NOT EXISTS idx_messages_conversation_search_vector ON messages " +
+            "USING GIN (conversation_id, search_vector)",
+            "DROP INDEX IF EXISTS idx_messages_search_vector");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final boolean manageSchema;
+
+    public PostgresMessageTextSearch(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            @Value("${chat.search.manage-schema:true}") boolean manageSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.manageSchema = manageSchema;
+    }
+
+    @PostConstruct
+    void ensureSchema() {
+        if (manageSchema) {
+            SCHEMA_DDL.forEach(jdbcTemplate::execute);
+            log.info("Message full-text search column and index verified");
+        }
+    }
+
+    @Override
+    public List<Hit> search(Long userId, Long conversationId, List<String> terms, KeysetCursor before, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("config", TEXT_SEARCH_CONFIG)
+                .addValue("tsquery", TextSearchUtil.toPrefixTsQuery(terms))
+                .addValue("headlineOptions", HEADLINE_OPTIONS)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        StringBuilder scope = new StringBuilder();
+        if (conversationId != null) {
+            scope.append(" AND cp.conversation_id = :conversationId");
+            params.addValue("conversationId", conversationId);
+        }
+        StringBuilder where = new StringBuilder();
+        if (before != null) {
+            where.append(" AND (m.created_at, m.id) < (:beforeCreatedAt, :beforeId)");
+            params.addValue("beforeCreatedAt", Timestamp.from(before.timestamp()))
+                    .addValue("beforeId", before.id());
+        }
+
+        return namedJdbcTemplate.query(
+                "WITH q AS (SELECT to_tsquery(CAST(:config AS regconfig), :tsquery) AS query), " +
+                "mine AS (" +
+                "  SELECT cp.conversation_id FROM conversation_participants cp" +
+                "  WHERE cp.user_id = :userId" + scope + "), " +
+                "hits AS (" +
+                "  SELECT m.id, m.conversation_id, m.sender_id, m.text, m.created_at" +
+                "  FROM mine, q, LATERAL (" +
+                "    SELECT m.id, m.conversation_id, m.sender_id, m.text, m.created_at FROM messages m" +
+                "    WHERE m.conversation_id = mine.conversation_id AND m.search_vector @@ q.query" + where +
+                "    ORDER BY m.created_at DESC, m.id DESC LIMIT :limit) m" +
+                "  ORDER BY m.created_at DESC, m.id DESC LIMIT :limit) " +
+                "SELECT hits.id, hits.conversation_id, hits.sender_id, u.email AS sender_email, hits.created_at, " +
+                "ts_headline(CAST(:config AS regconfig), " + TextSearchUtil.htmlEscapeSql("hits.text") +
+                ", q.query, :headlineOptions) AS snippet " +
+                "FROM hits JOIN users u ON u.id = hits.sender_id, q " +
+                "ORDER BY hits.created_at DESC, hits.id DESC",
+                params,
+                (rs, rowNum) -> new Hit(
+                        rs.getLong("id"),
+                        rs.getLong("conversation_id"),
+                        rs.getLong("sender_id"),
+                        rs.getString("sender_email"),
+                        rs.getString("snippet"),
+                        rs.getTimestamp("created_at").toInstant()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.dto.chat.PresenceEvent;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Fan-out of presence and typing events between nodes. Every node subscribes once and delivers
+ * each envelope to whichever of its recipients hold a stream on that node, so a user's
+ * counterparts are reached wherever they are connected.
+ */
+public interface PresenceBus {
+    void publish(Envelope envelope);
+
+    void subscribe(Consumer<Envelope> subscriber);
+
+    record Envelope(Set<Long> recipientIds, PresenceEvent event) {
+    }
+}
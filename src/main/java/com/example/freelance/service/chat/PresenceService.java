@@ -0,0 +1,326 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.common.exception.ForbiddenException;
+import com.example.freelance.common.util.TransactionUtil;
+import com.example.freelance.dto.chat.PresenceEvent;
+import com.example.freelance.repository.chat.ConversationParticipantRepository;
+import com.example.freelance.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Online status and typing indicators, held entirely in memory. A user is online while they keep
+ * sending heartbeats and until their last event stream closes; deadlines are kept in a
+ * {@link HeartbeatWheel}, so expiring idle users costs only the users actually due.
+ *
+ * <p>Each online user carries the counterparts of their conversations, loaded once when they come
+ * online and extended as conversations are created. Status changes and typing events are sent
+ * to those counterparts only, through the {@link PresenceBus}, and never write to the database.
+ */
+@Slf4j
+@Service
+public class PresenceService {
+    private static final String STATUS_METRIC = "freelance.chat.presence.transitions";
+    private static final String STREAM_EVICTION_METRIC = "freelance.chat.presence.streams.evicted";
+
+    private final ConversationParticipantRepository participantRepository;
+    private final PresenceBus presenceBus;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, Presence> presences = new ConcurrentHashMap<>();
+    private final HeartbeatWheel wheel;
+    private final long ttlMillis;
+    private final long typingThrottleMillis;
+    private final long streamTimeoutMillis;
+    private final int maxStreamsPerUser;
+
+    public PresenceService(
+            ConversationParticipantRepository participantRepository,
+            PresenceBus presenceBus,
+            MeterRegistry meterRegistry,
+            @Value("${chat.presence.ttl-ms:60000}") long ttlMillis,
+            @Value("${chat.presence.tick-ms:1000}") long tickMillis,
+            @Value("${chat.presence.typing-throttle-ms:2000}") long typingThrottleMillis,
+            @Value("${chat.presence.stream-timeout-ms:1800000}") long streamTimeoutMillis,
+            @Value("${chat.presence.max-streams-per-user:5}") int maxStreamsPerUser) {
+        this.participantRepository = participantRepository;
+        this.presenceBus = presenceBus;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMillis;
+        this.typingThrottleMillis = typingThrottleMillis;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.maxStreamsPerUser = Math.max(1, maxStreamsPerUser);
+        this.wheel = new HeartbeatWheel(tickMillis, (int) (ttlMillis / tickMillis) + 2, System.currentTimeMillis());
+        presenceBus.subscribe(this::deliver);
+        meterRegistry.gaugeMapSize("freelance.chat.presence.online", Tags.empty(), presences);
+    }
+
+    /**
+     * Opens an event stream for the user and marks them online. The stream starts with the
+     * status of every counterpart currently online. Beyond
+     * {@code chat.presence.max-streams-per-user} the user's oldest streams are completed, so
+     * reconnect loops cannot pile up open streams.
+     */
+    public SseEmitter connect() {
+        Long userId = getCurrentUser().getId();
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        emitter.onCompletion(() -> disconnect(userId, emitter));
+        emitter.onTimeout(() -> disconnect(userId, emitter));
+        emitter.onError(ex -> disconnect(userId, emitter));
+
+        Presence presence = track(userId, emitter);
+        for (Long counterpartId : presence.counterpartIds()) {
+            Presence counterpart = presences.get(counterpartId);
+            if (counterpart != null && !send(emitter, statusEvent(counterpartId, counterpart, true))) {
+                break;
+            }
+        }
+        return emitter;
+    }
+
+    public void heartbeat() {
+        track(getCurrentUser().getId(), null);
+    }
+
+    /**
+     * Tells the counterpart that the user is typing in the conversation, at most once per
+     * {@code chat.presence.typing-throttle-ms}. Ignored while the user is offline.
+     */
+    public void typing(Long conversationId) {
+        Long userId = getCurrentUser().getId();
+        Presence presence = presences.get(userId);
+        if (presence == null) {
+            return;
+        }
+        Long counterpartId = presence.counterparts.get(conversationId);
+        if (counterpartId == null) {
+            throw new ForbiddenException("Access denied to this conversation", "ACCESS_DENIED");
+        }
+        touch(userId, presence);
+
+        long now = System.currentTimeMillis();
+        boolean[] due = {false};
+        presence.typingAt.compute(conversationId, (id, last) -> {
+            if (last != null && now - last < typingThrottleMillis) {
+                return last;
+            }
+            due[0] = true;
+            return now;
+        });
+        if (due[0]) {
+            presenceBus.publish(new PresenceBus.Envelope(Set.of(counterpartId), PresenceEvent.builder()
+                    .type(PresenceEvent.Type.TYPING)
+                    .userId(userId)
+                    .conversationId(conversationId)
+                    .occurredAt(Instant.ofEpochMilli(now))
+                    .build()));
+        }
+    }
+
+    /**
+     * Adds a newly created conversation to the counterparts of whichever participants are online,
+     * once the surrounding transaction commits.
+     */
+    public void registerConversationAfterCommit(Long conversationId, Long clientUserId, Long freelancerUserId) {
+        TransactionUtil.afterCommit(() -> {
+            Presence client = presences.get(clientUserId);
+            if (client != null) {
+                client.counterparts.put(conversationId, freelancerUserId);
+            }
+            Presence freelancer = presences.get(freelancerUserId);
+            if (freelancer != null) {
+                freelancer.counterparts.put(conversationId, clientUserId);
+            }
+        });
+    }
+
+    /**
+     * Takes users whose heartbeat deadline has passed offline and closes their streams.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.tick-ms:1000}")
+    public void expireIdle() {
+        long now = System.currentTimeMillis();
+        for (Long userId : wheel.advance(now)) {
+            Presence presence = presences.get(userId);
+            if (presence == null) {
+                continue;
+            }
+            List<SseEmitter> streams;
+            synchronized (presence) {
+                long deadline = presence.lastSeenMillis + ttlMillis;
+                if (presence.closed || deadline > now) {
+                    continue;
+                }
+                close(userId, presence);
+                streams = List.copyOf(presence.emitters);
+            }
+            streams.forEach(SseEmitter::complete);
+            publishStatus(userId, presence, false);
+        }
+    }
+
+    /**
+     * Marks the user as seen, bringing them online first if needed, and attaches {@code emitter}
+     * when given, completing the oldest streams over the cap. Counterparts are only loaded for
+     * users who were offline.
+     */
+    private Presence track(Long userId, SseEmitter emitter) {
+        while (true) {
+            Presence presence = presences.get(userId);
+            boolean cameOnline = false;
+            if (presence == null) {
+                Presence loaded = new Presence(loadCounterparts(userId));
+                presence = presences.putIfAbsent(userId, loaded);
+                if (presence == null) {
+                    presence = loaded;
+                    cameOnline = true;
+                }
+            }
+            List<SseEmitter> evicted = List.of();
+            synchronized (presence) {
+                if (presence.closed) {
+                    continue;
+                }
+                if (emitter != null) {
+                    presence.emitters.addLast(emitter);
+                    evicted = presence.trimEmitters(maxStreamsPerUser);
+                }
+                touch(userId, presence);
+            }
+            if (!evicted.isEmpty()) {
+                meterRegistry.counter(STREAM_EVICTION_METRIC).increment(evicted.size());
+                evicted.forEach(SseEmitter::complete);
+            }
+            if (cameOnline) {
+                publishStatus(userId, presence, true);
+            }
+            return presence;
+        }
+    }
+
+    private void disconnect(Long userId, SseEmitter emitter) {
+        Presence presence = presences.get(userId);
+        if (presence == null) {
+            return;
+        }
+        synchronized (presence) {
+            if (!presence.emitters.remove(emitter) || !presence.emitters.isEmpty() || presence.closed) {
+                return;
+            }
+            close(userId, presence);
+        }
+        publishStatus(userId, presence, false);
+    }
+
+    private void touch(Long userId, Presence presence) {
+        long now = System.currentTimeMillis();
+        presence.lastSeenMillis = now;
+        wheel.schedule(userId, now + ttlMillis);
+    }
+
+    private void close(Long userId, Presence presence) {
+        presence.closed = true;
+        presences.remove(userId, presence);
+    }
+
+    private void publishStatus(Long userId, Presence presence, boolean online) {
+        meterRegistry.counter(STATUS_METRIC, "status", online ? "online" : "offline").increment();
+        Set<Long> recipients = presence.counterpartIds();
+        if (!recipients.isEmpty()) {
+            presenceBus.publish(new PresenceBus.Envelope(recipients, statusEvent(userId, presence, online)));
+        }
+    }
+
+    private void deliver(PresenceBus.Envelope envelope) {
+        for (Long recipientId : envelope.recipientIds()) {
+            Presence presence = presences.get(recipientId);
+            if (presence != null) {
+                presence.emitters.forEach(emitter -> send(emitter, envelope.event()));
+            }
+        }
+    }
+
+    private Map<Long, Long> loadCounterparts(Long userId) {
+        Map<Long, Long> counterparts = new ConcurrentHashMap<>();
+        for (Object[] row : participantRepository.findCounterparts(userId)) {
+            counterparts.put((Long) row[0], (Long) row[1]);
+        }
+        return counterparts;
+    }
+
+    private static PresenceEvent statusEvent(Long userId, Presence presence, boolean online) {
+        return PresenceEvent.builder()
+                .type(PresenceEvent.Type.STATUS)
+                .userId(userId)
+                .online(online)
+                .lastSeenAt(Instant.ofEpochMilli(presence.lastSeenMillis))
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private static boolean send(SseEmitter emitter, PresenceEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.getType().name().toLowerCase())
+                    .data(event, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Presence stream closed while sending: eventType={}, error={}", event.getType(), ex.getMessage());
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    /**
+     * One online user: last heartbeat, open streams oldest first (the connection count),
+     * conversation id to counterpart user id, and when they last signalled typing per
+     * conversation. Transitions to and from {@code closed} happen under the instance lock.
+     */
+    private static final class Presence {
+        private final Map<Long, Long> counterparts;
+        private final Deque<SseEmitter> emitters = new ConcurrentLinkedDeque<>();
+        private final Map<Long, Long> typingAt = new ConcurrentHashMap<>();
+        private volatile long lastSeenMillis;
+        private boolean closed;
+
+        Presence(Map<Long, Long> counterparts) {
+            this.counterparts = counterparts;
+        }
+
+        Set<Long> counterpartIds() {
+            return new HashSet<>(counterparts.values());
+        }
+
+        /**
+         * Detaches the oldest streams until at most {@code max} remain; called under the lock.
+         */
+        List<SseEmitter> trimEmitters(int max) {
+            List<SseEmitter> evicted = new ArrayList<>();
+            while (emitters.size() > max) {
+                evicted.add(emitters.pollFirst());
+            }
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.freelance.service.idempotency;
+
+import com.example.freelance.domain.idempotency.IdempotencyRecord;
+import com.example.freelance.domain.idempotency.IdempotencyStatus;
+import com.example.freelance.repository.idempotency.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Key store behind the {@code Idempotency-Key} header. Completed responses are kept in a bounded
+ * in-memory cache backed by the {@code idempotency_records} table. Duplicates arriving on this node
+ * while the original is still running wait for its result; duplicates racing on another node are
+ * rejected through the table's unique key until the original completes.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+    private static final String OUTCOME_METRIC = "freelance.idempotency.requests";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<String, StoredResponse> completed;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${idempotency.lock-timeout-seconds:30}") long lockTimeoutSeconds,
+            @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.lockTimeout = Duration.ofSeconds(lockTimeoutSeconds);
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency");
+    }
+
+    /**
+     * Claims {@code keyHash} for a new execution or resolves it to the outcome of an earlier one.
+     * A {@link Decision#PROCEED} result must be followed by {@link #complete} or {@link #release}.
+     */
+    public Acquisition acquire(String keyHash, Long userId, String requestPath, String requestHash) {
+        while (true) {
+            InFlight mine = new InFlight(requestHash);
+            InFlight existing = inFlight.putIfAbsent(keyHash, mine);
+            if (existing != null) {
+                if (!existing.requestHash().equals(requestHash)) {
+                    return record(Acquisition.keyReused());
+                }
+                Optional<StoredResponse> response = await(existing);
+                if (response == null) {
+                    return record(Acquisition.inProgress());
+                }
+                if (response.isPresent()) {
+                    return record(Acquisition.replay(response.get()));
+                }
+                continue;
+            }
+
+            Acquisition acquisition;
+            try {
+                acquisition = acquireDurable(keyHash, userId, requestPath, requestHash);
+            } catch (RuntimeException ex) {
+                finish(keyHash, mine, Optional.empty());
+                throw ex;
+            }
+            if (acquisition.decision() != Decision.PROCEED) {
+                finish(keyHash, mine, Optional.ofNullable(acquisition.response()));
+            }
+            return record(acquisition);
+        }
+    }
+
+    public void complete(String keyHash, StoredResponse response) {
+        try {
+            idempotencyRecordRepository.findByKeyHash(keyHash).ifPresent(record -> {
+                record.setStatus(IdempotencyStatus.COMPLETED);
+                record.setResponseStatus(response.status());
+                record.setResponseContentType(response.contentType());
+                record.setResponseBody(response.body());
+                record.setExpiresAt(Instant.now().plus(ttl));
+                idempotencyRecordRepository.save(record);
+            });
+            completed.put(keyHash, response);
+        } finally {
+            InFlight mine = inFlight.get(keyHash);
+            if (mine != null) {
+                finish(keyHash, mine, Optional.of(response));
+            }
+        }
+    }
+
+    /**
+     * Gives up the claim without storing a response, so the client can retry with the same key.
+     */
+    public void release(String keyHash) {
+        try {
+            idempotencyRecordRepository.deleteByKeyHash(keyHash);
+        } finally {
+            InFlight mine = inFlight.get(keyHash);
+            if (mine != null) {
+                finish(keyHash, mine, Optional.empty());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Expired idempotency records purged: count={}", purged);
+        }
+    }
+
+    private Acquisition acquireDurable(String keyHash, Long userId, String requestPath, String requestHash) {
+        StoredResponse cached = completed.getIfPresent(keyHash);
+        if (cached != null) {
+            return cached.requestHash().equals(requestHash) ? Acquisition.replay(cached) : Acquisition.keyReused();
+        }
+
+        Instant now = Instant.now();
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByKeyHash(keyHash);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            boolean expired = record.getExpiresAt().isBefore(now);
+            boolean abandoned = record.getStatus() == IdempotencyStatus.IN_PROGRESS
+                    && record.getUpdatedAt().plus(lockTimeout).isBefore(now);
+            if (expired || abandoned) {
+                idempotencyRecordRepository.deleteByKeyHash(keyHash);
+            } else if (!record.getRequestHash().equals(requestHash)) {
+                return Acquisition.keyReused();
+            } else if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                StoredResponse response = new StoredResponse(record.getRequestHash(), record.getResponseStatus(),
+                        record.getResponseContentType(), record.getResponseBody());
+                completed.put(keyHash, response);
+                return Acquisition.replay(response);
+            } else {
+                return Acquisition.inProgress();
+            }
+        }
+
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setKeyHash(keyHash);
+        record.setUserId(userId);
+        record.setRequestPath(requestPath);
+        record.setRequestHash(requestHash);
+        record.setStatus(IdempotencyStatus.IN_PROGRESS);
+        record.setExpiresAt(now.plus(ttl));
+        try {
+            idempotencyRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException ex) {
+            return Acquisition.inProgress();
+        }
+        return Acquisition.proceed();
+    }
+
+    /**
+     * Waits for the in-flight original. Returns the stored response, an empty optional when the
+     * original released its claim, or {@code null} when it did not finish within the lock timeout.
+     */
+    private Optional<StoredResponse> await(InFlight existing) {
+        try {
+            return existing.result().get(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void finish(String keyHash, InFlight mine, Optional<StoredResponse> response) {
+        inFlight.remove(keyHash, mine);
+        mine.result().complete(response);
+    }
+
+    private Acquisition record(Acquisition acquisition) {
+        meterRegistry.counter(OUTCOME_METRIC, "outcome", acquisition.decision().name().toLowerCase()).increment();
+        return acquisition;
+    }
+
+    public enum Decision {
+        PROCEED,
+        REPLAY,
+        IN_PROGRESS,
+        KEY_REUSED
+    }
+
+    public record Acquisition(Decision decision, StoredResponse response) {
+        static Acquisition proceed() {
+            return new Acquisition(Decision.PROCEED, null);
+        }
+
+        static Acquisition replay(StoredResponse response) {
+            return new Acquisition(Decision.REPLAY, response);
+        }
+
+        static Acquisition inProgress() {
+            return new Acquisition(Decision.IN_PROGRESS, null);
+        }
+
+        static Acquisition keyReused() {
+            return new Acquisition(Decision.KEY_REUSED, null);
+        }
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, String body) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<Optional<StoredResponse>> result) {
+        InFlight(String requestHash) {
+            this(requestHash, new CompletableFuture<>());
+        }
+    }
+}
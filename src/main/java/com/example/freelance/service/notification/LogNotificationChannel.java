@@ -0,0 +1,27 @@
+package com.example.freelance.service.notification;
+
+import com.example.freelance.domain.notification.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in channel that writes digests to the {@code notification.delivery} logger, which can be
+ * routed to its own file until a real provider is wired in.
+ */
+@Slf4j(topic = "notification.delivery")
+@Component
+public class LogNotificationChannel implements NotificationChannel {
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(NotificationDigest digest) {
+        log.info("Notification digest: recipientId={}, count={}", digest.recipientId(), digest.notifications().size());
+        for (Notification notification : digest.notifications()) {
+            log.info("  [{}] {}", notification.getType(), notification.getTitle());
+        }
+    }
+}
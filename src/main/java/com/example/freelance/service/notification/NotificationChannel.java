@@ -0,0 +1,11 @@
+package com.example.freelance.service.notification;
+
+/**
+ * Outbound delivery of notification digests, e.g. email or push. Every channel bean receives
+ * every digest; a channel that throws causes the digest to be retried on the next run.
+ */
+public interface NotificationChannel {
+    String name();
+
+    void deliver(NotificationDigest digest);
+}
@@ -0,0 +1,11 @@
+package com.example.freelance.service.notification;
+
+import com.example.freelance.domain.notification.Notification;
+
+import java.util.List;
+
+/**
+ * Notifications for one recipient coalesced into a single delivery.
+ */
+public record NotificationDigest(Long recipientId, List<Notification> notifications) {
+}
@@ -0,0 +1,145 @@
+package com.example.freelance.service.notification;
+
+import com.example.freelance.domain.notification.Notification;
+import com.example.freelance.repository.notification.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends undelivered notifications out through every {@link NotificationChannel}, one digest per
+ * recipient per run. Notifications younger than the settle delay are held back so a burst, such
+ * as a project rejecting all its remaining proposals, lands in one digest instead of several.
+ * A failed digest is retried with exponential backoff, and its notifications are parked with
+ * {@code deliveryFailedAt} once {@code notification.digest.max-attempts} is reached, so a
+ * recipient whose delivery keeps failing cannot hold the head of every claim.
+ */
+@Slf4j
+@Component
+public class NotificationDigestScheduler {
+    private static final String DIGESTS_METRIC = "freelance.notifications.digests";
+
+    private final NotificationRepository notificationRepository;
+    private final List<NotificationChannel> channels;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration settleDelay;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public NotificationDigestScheduler(
+            NotificationRepository notificationRepository,
+            List<NotificationChannel> channels,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.digest.enabled:true}") boolean enabled,
+            @Value("${notification.digest.batch-size:1000}") int batchSize,
+            @Value("${notification.digest.settle-delay-ms:30000}") long settleDelayMillis,
+            @Value("${notification.digest.max-attempts:10}") int maxAttempts,
+            @Value("${notification.digest.retry.base-delay-ms:60000}") long baseDelayMillis,
+            @Value("${notification.digest.retry.max-delay-ms:3600000}") long maxDelayMillis) {
+        this.notificationRepository = notificationRepository;
+        this.channels = channels;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.settleDelay = Duration.ofMillis(settleDelayMillis);
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.digest.interval-ms:60000}")
+    public void deliverDigests() {
+        if (!enabled) {
+            return;
+        }
+        boolean more;
+        do {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> deliverBatch()));
+        } while (more);
+    }
+
+    /**
+     * Delivers one claimed batch and returns whether another full batch may be waiting. A batch
+     * with failed deliveries ends the run, so failing rows are not re-claimed in a tight loop.
+     */
+    private boolean deliverBatch() {
+        Instant now = Instant.now();
+        List<Notification> claimed = notificationRepository.claimUndelivered(
+                now.minus(settleDelay), now, PageRequest.of(0, batchSize));
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        Map<Long, List<Notification>> byRecipient = new LinkedHashMap<>();
+        for (Notification notification : claimed) {
+            byRecipient.computeIfAbsent(notification.getRecipientId(), id -> new ArrayList<>()).add(notification);
+        }
+
+        List<Long> delivered = new ArrayList<>(claimed.size());
+        byRecipient.forEach((recipientId, notifications) -> {
+            if (deliver(new NotificationDigest(recipientId, notifications))) {
+                notifications.forEach(notification -> delivered.add(notification.getId()));
+            } else {
+                handleFailure(recipientId, notifications);
+            }
+        });
+        if (!delivered.isEmpty()) {
+            notificationRepository.markDelivered(delivered, Instant.now());
+        }
+        log.debug("Notification digests sent: recipients={}, notifications={}", byRecipient.size(), delivered.size());
+        return claimed.size() >= batchSize && delivered.size() == claimed.size();
+    }
+
+    private void handleFailure(Long recipientId, List<Notification> notifications) {
+        Instant now = Instant.now();
+        int attempt = notifications.stream().mapToInt(Notification::getDeliveryAttempts).max().orElse(0) + 1;
+        if (attempt >= maxAttempts) {
+            notifications.forEach(notification -> {
+                notification.setDeliveryAttempts(attempt);
+                notification.setDeliveryFailedAt(now);
+            });
+            log.error("Notification digest delivery failed permanently: recipientId={}, notifications={}, attempts={}",
+                    recipientId, notifications.size(), attempt);
+            return;
+        }
+        long delay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        Instant nextDeliveryAt = now.plusMillis(delay);
+        notifications.forEach(notification -> {
+            notification.setDeliveryAttempts(attempt);
+            notification.setNextDeliveryAt(nextDeliveryAt);
+        });
+    }
+
+    private boolean deliver(NotificationDigest digest) {
+        for (NotificationChannel channel : channels) {
+            try {
+                channel.deliver(digest);
+                meterRegistry.counter(DIGESTS_METRIC, "channel", channel.name(), "outcome", "delivered").increment();
+            } catch (RuntimeException ex) {
+                meterRegistry.counter(DIGESTS_METRIC, "channel", channel.name(), "outcome", "failed").increment();
+                log.warn("Notification digest delivery failed: channel={}, recipientId={}, error={}",
+                        channel.name(), digest.recipientId(), ex.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+}
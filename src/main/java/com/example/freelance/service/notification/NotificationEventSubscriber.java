@@ -0,0 +1,91 @@
+package com.example.freelance.service.notification;
+
+import com.example.freelance.domain.notification.Notification;
+import com.example.freelance.domain.notification.NotificationType;
+import com.example.freelance.repository.proposal.ProposalRepository;
+import com.example.freelance.service.outbox.DomainEvent;
+import com.example.freelance.service.outbox.DomainEventPayload;
+import com.example.freelance.service.outbox.DomainEventSubscriber;
+import com.example.freelance.service.outbox.event.FreelancerInvited;
+import com.example.freelance.service.outbox.event.ProposalAccepted;
+import com.example.freelance.service.outbox.event.ProposalRejected;
+import com.example.freelance.service.outbox.event.ProposalSubmitted;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns proposal lifecycle events into inbox notifications for the affected freelancers and
+ * clients.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventSubscriber implements DomainEventSubscriber {
+    private final NotificationService notificationService;
+    private final ProposalRepository proposalRepository;
+
+    @Override
+    public Set<Class<? extends DomainEventPayload>> eventTypes() {
+        return Set.of(ProposalSubmitted.class, FreelancerInvited.class, ProposalAccepted.class, ProposalRejected.class);
+    }
+
+    @Override
+    public void onEvent(DomainEvent<?> event) {
+        List<Notification> notifications = switch (event.payload()) {
+            case ProposalSubmitted submitted -> List.of(notification(
+                    submitted.clientUserId(), NotificationType.PROPOSAL_RECEIVED,
+                    "New proposal for \"" + submitted.projectTitle() + "\"",
+                    "A freelancer bid " + submitted.bidAmount() + " on your project.",
+                    submitted.projectId(), submitted.proposalId()));
+            case FreelancerInvited invited -> List.of(notification(
+                    invited.freelancerUserId(), NotificationType.INVITATION_RECEIVED,
+                    "You were invited to \"" + invited.projectTitle() + "\"",
+                    "A client invited you to work on their project.",
+                    invited.projectId(), invited.proposalId()));
+            case ProposalRejected rejected -> List.of(rejectedNotification(
+                    rejected.freelancerUserId(), rejected.projectTitle(), rejected.projectId(), rejected.proposalId()));
+            case ProposalAccepted accepted -> acceptedNotifications(accepted);
+            default -> List.of();
+        };
+        if (!notifications.isEmpty()) {
+            notificationService.record(event.id(), notifications);
+        }
+    }
+
+    private List<Notification> acceptedNotifications(ProposalAccepted accepted) {
+        List<Notification> notifications = new ArrayList<>();
+        notifications.add(notification(
+                accepted.freelancerUserId(), NotificationType.PROPOSAL_ACCEPTED,
+                "Your proposal for \"" + accepted.projectTitle() + "\" was accepted",
+                "The client accepted your proposal. The assignment is about to start.",
+                accepted.projectId(), accepted.proposalId()));
+        if (!accepted.rejectedProposalIds().isEmpty()) {
+            for (Long freelancerUserId : proposalRepository.findFreelancerUserIdsByIdIn(accepted.rejectedProposalIds())) {
+                notifications.add(rejectedNotification(freelancerUserId, accepted.projectTitle(), accepted.projectId(), null));
+            }
+        }
+        return notifications;
+    }
+
+    private static Notification rejectedNotification(Long recipientId, String projectTitle, Long projectId, Long proposalId) {
+        return notification(recipientId, NotificationType.PROPOSAL_REJECTED,
+                "Your proposal for \"" + projectTitle + "\" was not selected",
+                "The client has chosen another proposal for this project.",
+                projectId, proposalId);
+    }
+
+    private static Notification notification(Long recipientId, NotificationType type, String title, String body,
+                                             Long projectId, Long proposalId) {
+        Notification notification = new Notification();
+        notification.setRecipientId(recipientId);
+        notification.setType(type);
+        notification.setTitle(title);
+        notification.setBody(body);
+        notification.setProjectId(projectId);
+        notification.setProposalId(proposalId);
+        return notification;
+    }
+}
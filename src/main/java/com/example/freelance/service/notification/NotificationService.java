@@ -0,0 +1,108 @@
+package com.example.freelance.service.notification;
+
+import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.domain.notification.Notification;
+import com.example.freelance.dto.notification.NotificationResponse;
+import com.example.freelance.dto.notification.UnreadCountResponse;
+import com.example.freelance.mapper.notification.NotificationMapper;
+import com.example.freelance.repository.notification.NotificationRepository;
+import com.example.freelance.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+    private static final String NOTIFICATION_RESOURCE_NAME = "Notification";
+    private static final String CREATED_METRIC = "freelance.notifications.created";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationMapper notificationMapper;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Stores the notifications produced by one source event in a single batch. Recipients that
+     * already hold a notification for the event are skipped, so redelivered events are harmless.
+     */
+    @Transactional
+    public void record(Long sourceEventId, List<Notification> notifications) {
+        Set<Long> existing = new HashSet<>(notificationRepository.findRecipientIdsBySourceEventId(sourceEventId));
+        List<Notification> fresh = new ArrayList<>();
+        for (Notification notification : notifications) {
+            if (existing.add(notification.getRecipientId())) {
+                notification.setSourceEventId(sourceEventId);
+                fresh.add(notification);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        notificationRepository.insertAll(fresh);
+        Map<Long, Long> perRecipient = fresh.stream()
+                .collect(Collectors.groupingBy(Notification::getRecipientId, Collectors.counting()));
+        perRecipient.forEach(unreadNotificationCounter::adjustAfterCommit);
+        fresh.forEach(notification ->
+                meterRegistry.counter(CREATED_METRIC, "type", notification.getType().name()).increment());
+        log.debug("Notifications recorded: sourceEventId={}, count={}", sourceEventId, fresh.size());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<NotificationResponse> getMyNotifications(boolean unreadOnly, Pageable pageable) {
+        Long userId = getCurrentUser().getId();
+        Page<Notification> notifications = unreadOnly
+                ? notificationRepository.findByRecipientIdAndReadAtIsNull(userId, pageable)
+                : notificationRepository.findByRecipientId(userId, pageable);
+        return notifications.map(notificationMapper::toResponse);
+    }
+
+    public UnreadCountResponse getMyUnreadCount() {
+        return UnreadCountResponse.builder()
+                .unreadCount(unreadNotificationCounter.get(getCurrentUser().getId()))
+                .build();
+    }
+
+    @Transactional
+    public NotificationResponse markRead(Long notificationId) {
+        Long userId = getCurrentUser().getId();
+        Notification notification = notificationRepository.findByIdAndRecipientId(notificationId, userId)
+                .orElseThrow(() -> new NotFoundException(NOTIFICATION_RESOURCE_NAME, notificationId.toString()));
+
+        if (notification.getReadAt() == null) {
+            notification.setReadAt(Instant.now());
+            notification = notificationRepository.save(notification);
+            unreadNotificationCounter.adjustAfterCommit(userId, -1);
+        }
+        return notificationMapper.toResponse(notification);
+    }
+
+    @Transactional
+    public UnreadCountResponse markAllRead() {
+        Long userId = getCurrentUser().getId();
+        int updated = notificationRepository.markAllRead(userId, Instant.now());
+        if (updated > 0) {
+            unreadNotificationCounter.resetAfterCommit(userId);
+        }
+        return UnreadCountResponse.builder().unreadCount(0).build();
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
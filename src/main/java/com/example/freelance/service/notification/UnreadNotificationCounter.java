@@ -0,0 +1,60 @@
+package com.example.freelance.service.notification;
+
+import com.example.freelance.common.util.TransactionUtil;
+import com.example.freelance.repository.notification.NotificationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user unread notification counts held in memory, so the badge poll does not hit the
+ * database. Counts are loaded on first read and then adjusted after each committing write on this
+ * node; the TTL bounds how long writes made on other nodes can go unseen.
+ */
+@Component
+public class UnreadNotificationCounter {
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, AtomicLong> counts;
+
+    public UnreadNotificationCounter(
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.unread-cache.max-size:50000}") long maxSize,
+            @Value("${notification.unread-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "unreadNotifications");
+    }
+
+    public long get(Long userId) {
+        return counts.get(userId, id -> new AtomicLong(notificationRepository.countByRecipientIdAndReadAtIsNull(id))).get();
+    }
+
+    /**
+     * Adjusts a cached count by {@code delta} once the surrounding transaction commits. Users
+     * without a cached count are left alone and load the committed value on their next read.
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        TransactionUtil.afterCommit(() -> {
+            AtomicLong count = counts.getIfPresent(userId);
+            if (count != null) {
+                count.accumulateAndGet(delta, (current, change) -> Math.max(0, current + change));
+            }
+        });
+    }
+
+    public void resetAfterCommit(Long userId) {
+        TransactionUtil.afterCommit(() -> counts.invalidate(userId));
+    }
+
+}
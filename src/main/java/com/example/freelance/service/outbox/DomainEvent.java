@@ -0,0 +1,16 @@
+package com.example.freelance.service.outbox;
+
+import java.time.Instant;
+
+/**
+ * A delivered outbox event. {@code id} is stable across redeliveries and can be used by
+ * subscribers to deduplicate.
+ */
+public record DomainEvent<T extends DomainEventPayload>(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        Instant occurredAt,
+        int attempt,
+        T payload) {
+}
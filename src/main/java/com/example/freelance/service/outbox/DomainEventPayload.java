@@ -0,0 +1,15 @@
+package com.example.freelance.service.outbox;
+
+/**
+ * Payload of a domain event published through the outbox. Implementations are serialized to
+ * JSON; the simple class name is stored as the event type, so renaming one is a breaking change
+ * for events still in the outbox.
+ */
+public interface DomainEventPayload {
+    /**
+     * Aggregate the event belongs to. Events of one aggregate are delivered in publish order.
+     */
+    String aggregateType();
+
+    Long aggregateId();
+}
@@ -0,0 +1,14 @@
+package com.example.freelance.service.outbox;
+
+import java.util.Set;
+
+/**
+ * In-process consumer of outbox events. Delivery is at-least-once: an event is redelivered to
+ * every subscriber of its type if any of them fails, so handlers must be idempotent. Each call
+ * runs in its own transaction, after the publishing transaction has committed.
+ */
+public interface DomainEventSubscriber {
+    Set<Class<? extends DomainEventPayload>> eventTypes();
+
+    void onEvent(DomainEvent<?> event);
+}
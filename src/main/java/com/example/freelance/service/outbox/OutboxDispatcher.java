@@ -0,0 +1,177 @@
+package com.example.freelance.service.outbox;
+
+import com.example.freelance.domain.outbox.OutboxEvent;
+import com.example.freelance.domain.outbox.OutboxStatus;
+import com.example.freelance.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Polls the outbox and delivers pending events to the {@link DomainEventSubscriber} beans
+ * registered for their type. Each batch is claimed under a row lock that other dispatchers skip,
+ * so the poller can run on every node. Failed deliveries are retried with exponential backoff
+ * and parked as {@link OutboxStatus#FAILED} once {@code outbox.max-attempts} is reached.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+    private static final String EVENTS_METRIC = "freelance.outbox.events";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate claimTransaction;
+    private final TransactionTemplate deliveryTransaction;
+    private final Map<String, Class<? extends DomainEventPayload>> payloadTypes = new HashMap<>();
+    private final Map<String, List<DomainEventSubscriber>> subscribersByType = new HashMap<>();
+    private final Timer lagTimer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Duration retention;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            List<DomainEventSubscriber> subscribers,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.dispatcher.enabled:true}") boolean enabled,
+            @Value("${outbox.batch-size:100}") int batchSize,
+            @Value("${outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${outbox.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retry.base-delay-ms:1000}") long baseDelayMillis,
+            @Value("${outbox.retry.max-delay-ms:600000}") long maxDelayMillis,
+            @Value("${outbox.retention-hours:72}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lagTimer = Timer.builder("freelance.outbox.lag")
+                .description("Time from publishing an outbox event to its successful delivery")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.retention = Duration.ofHours(retentionHours);
+
+        for (DomainEventSubscriber subscriber : subscribers) {
+            for (Class<? extends DomainEventPayload> type : subscriber.eventTypes()) {
+                payloadTypes.put(type.getSimpleName(), type);
+                subscribersByType.computeIfAbsent(type.getSimpleName(), key -> new ArrayList<>()).add(subscriber);
+            }
+        }
+        meterRegistry.gauge("freelance.outbox.pending", outboxEventRepository,
+                repository -> repository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            Integer dispatched = claimTransaction.execute(status -> dispatchBatch());
+            if (dispatched == null || dispatched < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purgeProcessed() {
+        int purged = outboxEventRepository.deleteProcessedBefore(OutboxStatus.PROCESSED, Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Processed outbox events purged: count={}", purged);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> events = outboxEventRepository.claimDispatchable(
+                OutboxStatus.PENDING, Instant.now(), PageRequest.of(0, batchSize));
+        for (OutboxEvent event : events) {
+            dispatch(event);
+        }
+        return events.size();
+    }
+
+    private void dispatch(OutboxEvent event) {
+        int attempt = event.getAttempts() + 1;
+        try {
+            List<DomainEventSubscriber> subscribers = subscribersByType.getOrDefault(event.getEventType(), List.of());
+            if (!subscribers.isEmpty()) {
+                DomainEvent<?> domainEvent = toDomainEvent(event, attempt);
+                for (DomainEventSubscriber subscriber : subscribers) {
+                    deliveryTransaction.executeWithoutResult(status -> subscriber.onEvent(domainEvent));
+                }
+            }
+        } catch (Exception ex) {
+            handleFailure(event, attempt, ex);
+            return;
+        }
+
+        Instant now = Instant.now();
+        event.setAttempts(attempt);
+        event.setStatus(OutboxStatus.PROCESSED);
+        event.setProcessedAt(now);
+        event.setLastError(null);
+        lagTimer.record(Duration.between(event.getCreatedAt(), now));
+        record(event, "processed");
+    }
+
+    private void handleFailure(OutboxEvent event, int attempt, Exception ex) {
+        event.setAttempts(attempt);
+        event.setLastError(truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage()));
+        if (attempt >= maxAttempts) {
+            event.setStatus(OutboxStatus.FAILED);
+            log.error("Outbox event delivery failed permanently: eventId={}, eventType={}, attempts={}",
+                    event.getId(), event.getEventType(), attempt, ex);
+            record(event, "failed");
+            return;
+        }
+        long delay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        event.setNextAttemptAt(Instant.now().plusMillis(delay));
+        log.warn("Outbox event delivery failed, will retry: eventId={}, eventType={}, attempt={}, retryInMs={}, error={}",
+                event.getId(), event.getEventType(), attempt, delay, ex.getMessage());
+        record(event, "retried");
+    }
+
+    private DomainEvent<?> toDomainEvent(OutboxEvent event, int attempt) throws Exception {
+        DomainEventPayload payload = objectMapper.readValue(event.getPayload(), payloadTypes.get(event.getEventType()));
+        return new DomainEvent<>(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getCreatedAt(), attempt, payload);
+    }
+
+    private void record(OutboxEvent event, String outcome) {
+        meterRegistry.counter(EVENTS_METRIC, "event_type", event.getEventType(), "outcome", outcome).increment();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.freelance.service.outbox;
+
+import com.example.freelance.domain.outbox.OutboxEvent;
+import com.example.freelance.domain.outbox.OutboxStatus;
+import com.example.freelance.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Records domain events in the outbox table as part of the caller's transaction, so an event
+ * exists if and only if the state change that produced it was committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventPayload payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(payload.aggregateType());
+        event.setAggregateId(payload.aggregateId());
+        event.setEventType(payload.getClass().getSimpleName());
+        event.setPayload(serialize(payload));
+        event.setStatus(OutboxStatus.PENDING);
+        event.setNextAttemptAt(Instant.now());
+        outboxEventRepository.save(event);
+    }
+
+    private String serialize(DomainEventPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize domain event " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
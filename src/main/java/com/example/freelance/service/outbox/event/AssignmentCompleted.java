@@ -0,0 +1,17 @@
+package com.example.freelance.service.outbox.event;
+
+import com.example.freelance.service.outbox.DomainEventPayload;
+
+public record AssignmentCompleted(Long assignmentId, Long projectId, Long freelancerUserId, Long clientUserId,
+                                  Long completedByUserId) implements DomainEventPayload {
+
+    @Override
+    public String aggregateType() {
+        return "Assignment";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return assignmentId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.freelance.service.outbox.event;
+
+import com.example.freelance.domain.payment.PaymentStatus;
+import com.example.freelance.domain.payment.PaymentType;
+import com.example.freelance.service.outbox.DomainEventPayload;
+
+import java.math.BigDecimal;
+
+/**
+ * A payment was recorded against an assignment. Keyed by assignment so money movements of one
+ * contract are delivered in order.
+ */
+public record PaymentCreated(Long paymentId, Long assignmentId, PaymentType type, PaymentStatus status,
+                             BigDecimal amount, String currency, Long freelancerUserId, Long clientUserId)
+        implements DomainEventPayload {
+
+    @Override
+    public String aggregateType() {
+        return "Assignment";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return assignmentId;
+    }
+}
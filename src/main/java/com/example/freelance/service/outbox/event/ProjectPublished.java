@@ -0,0 +1,38 @@
+package com.example.freelance.service.outbox.event;
+
+import com.example.freelance.domain.project.Project;
+import com.example.freelance.domain.project.Tag;
+import com.example.freelance.service.outbox.DomainEventPayload;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A project became open for proposals. Carries the searchable attributes so subscribers can match
+ * it without reloading the project.
+ */
+public record ProjectPublished(Long projectId, Long clientUserId, String title, Long categoryId,
+                               BigDecimal budgetMin, BigDecimal budgetMax, List<Long> tagIds)
+        implements DomainEventPayload {
+
+    public static ProjectPublished of(Project project) {
+        return new ProjectPublished(
+                project.getId(),
+                project.getClient().getUser().getId(),
+                project.getTitle(),
+                project.getCategory() != null ? project.getCategory().getId() : null,
+                project.getBudgetMin(),
+                project.getBudgetMax(),
+                project.getTags().stream().map(Tag::getId).toList());
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
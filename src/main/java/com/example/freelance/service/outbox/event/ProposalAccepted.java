@@ -0,0 +1,23 @@
+package com.example.freelance.service.outbox.event;
+
+import com.example.freelance.service.outbox.DomainEventPayload;
+
+import java.util.List;
+
+/**
+ * A proposal was accepted; the project moved to in progress and the remaining pending proposals
+ * listed in {@code rejectedProposalIds} were rejected in the same transaction.
+ */
+public record ProposalAccepted(Long proposalId, Long projectId, String projectTitle, Long freelancerUserId,
+                               Long clientUserId, List<Long> rejectedProposalIds) implements DomainEventPayload {
+
+    @Override
+    public String aggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
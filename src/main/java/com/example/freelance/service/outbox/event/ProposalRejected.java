@@ -0,0 +1,17 @@
+package com.example.freelance.service.outbox.event;
+
+import com.example.freelance.service.outbox.DomainEventPayload;
+
+public record ProposalRejected(Long proposalId, Long projectId, String projectTitle, Long freelancerUserId,
+                               Long clientUserId) implements DomainEventPayload {
+
+    @Override
+    public String aggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
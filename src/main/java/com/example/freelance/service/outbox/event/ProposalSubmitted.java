@@ -0,0 +1,19 @@
+package com.example.freelance.service.outbox.event;
+
+import com.example.freelance.service.outbox.DomainEventPayload;
+
+import java.math.BigDecimal;
+
+public record ProposalSubmitted(Long proposalId, Long projectId, String projectTitle, Long freelancerUserId,
+                                Long clientUserId, BigDecimal bidAmount) implements DomainEventPayload {
+
+    @Override
+    public String aggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return projectId;
+    }
+}
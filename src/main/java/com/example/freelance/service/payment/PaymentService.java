@@ -1,5 +1,6 @@
 package com.example.freelance.service.payment;
 
+import com.example.freelance.common.concurrency.RetryOnConflict;
 import com.example.freelance.common.exception.BadRequestException;
 import com.example.freelance.common.exception.ForbiddenException;
 import com.example.freelance.common.exception.NotFoundException;
@@ -15,6 +16,8 @@ import com.example.freelance.repository.assignment.AssignmentRepository;
 import com.example.freelance.repository.payment.PaymentRepository;
 import com.example.freelance.common.util.MdcUtil;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.outbox.OutboxPublisher;
+import com.example.freelance.service.outbox.event.PaymentCreated;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -33,14 +36,16 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final AssignmentRepository assignmentRepository;
     private final PaymentMapper paymentMapper;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
+    @RetryOnConflict
     public PaymentResponse createPayment(CreatePaymentRequest request) {
         UserPrincipal userPrincipal = getCurrentUser();
         MdcUtil.setUserId(userPrincipal.getId());
         MdcUtil.setOperation("CREATE_PAYMENT");
         
-        Assignment assignment = assignmentRepository.findById(request.getAssignmentId())
+        Assignment assignment = assignmentRepository.findByIdForUpdate(request.getAssignmentId())
                 .orElseThrow(() -> new NotFoundException("Assignment", request.getAssignmentId().toString()));
         
         log.info("Creating payment: assignmentId={}, type={}, amount={}, currency={}", 
@@ -80,6 +85,9 @@ public class PaymentService {
 
         payment.setStatus(PaymentStatus.COMPLETED);
         payment = paymentRepository.save(payment);
+        outboxPublisher.publish(new PaymentCreated(payment.getId(), assignment.getId(), payment.getType(),
+                payment.getStatus(), payment.getAmount(), payment.getCurrency(),
+                assignment.getFreelancer().getUser().getId(), userPrincipal.getId()));
         
         log.info("Payment created successfully: paymentId={}, transactionId={}, status={}, amount={}", 
                 payment.getId(), payment.getTransactionId(), payment.getStatus(), payment.getAmount());
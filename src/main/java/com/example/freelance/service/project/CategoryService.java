@@ -1,5 +1,6 @@
 package com.example.freelance.service.project;
 
+import com.example.freelance.common.util.HttpCacheUtil;
 import com.example.freelance.domain.project.Category;
 import com.example.freelance.dto.project.CategoryResponse;
 import com.example.freelance.mapper.project.CategoryMapper;
@@ -21,5 +22,17 @@ public class CategoryService {
         List<Category> categories = categoryRepository.findAll();
         return categoryMapper.toResponseList(categories);
     }
+
+    /**
+     * Cache validators for the category list, read with a single aggregate query. Count and
+     * latest update together catch additions, removals and edits.
+     */
+    @Transactional(readOnly = true)
+    public HttpCacheUtil.Validators getAllCategoriesValidators() {
+        CategoryRepository.CollectionVersion version = categoryRepository.findCollectionVersion();
+        return new HttpCacheUtil.Validators(
+                HttpCacheUtil.weakETag("categories", version.getCount(), version.getLastUpdatedAt()),
+                null);
+    }
 }
 
@@ -0,0 +1,200 @@
+package com.example.freelance.service.project;
+
+import com.example.freelance.common.concurrency.RebuildableIndex;
+import com.example.freelance.common.util.TextSearchUtil;
+import com.example.freelance.common.util.TransactionUtil;
+import com.example.freelance.domain.project.Project;
+import com.example.freelance.repository.project.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Inverted index of project titles and descriptions held in the JVM, for databases without
+ * native full-text search (H2 in tests). Terms are kept sorted so prefix queries are a range
+ * scan; a project matches when every query term matches a prefix of one of its words. Hits are
+ * ranked by a TF-IDF score in which title occurrences count more than description ones.
+ *
+ * <p>The index only answers the text part of a query. Structured filters are applied by the
+ * database to the matching ids, so status changes made elsewhere never leave stale filter data
+ * behind. The index is rebuilt periodically and kept current after commit in between; updates
+ * that commit while a rebuild is loading are replayed onto the rebuilt index before it is swapped in.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "project.search.engine", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryProjectTextSearch implements ProjectTextSearch {
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int FILTER_CHUNK_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxCandidates;
+    private final RebuildableIndex<Snapshot> index = new RebuildableIndex<>(new Snapshot());
+
+    public InMemoryProjectTextSearch(
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${project.search.in-memory.max-candidates:10000}") int maxCandidates) {
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${project.search.in-memory.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${project.search.in-memory.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        Snapshot rebuilt = index.rebuild(() -> {
+            Snapshot loaded = new Snapshot();
+            readOnlyTransaction.executeWithoutResult(status ->
+                    projectRepository.findAll().forEach(project -> loaded.put(Document.of(project))));
+            return loaded;
+        });
+        log.info("Project text index rebuilt: projects={}, terms={}", rebuilt.documents.size(), rebuilt.postings.size());
+    }
+
+    @Override
+    public Page<Hit> search(List<String> terms, Filter filter, Pageable pageable) {
+        Snapshot current = index.get();
+        Map<Long, Double> scores = current.score(terms);
+        if (scores.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<Long> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.comparing((Long id) -> scores.get(id)).reversed()
+                .thenComparing(Comparator.reverseOrder()));
+        if (ranked.size() > maxCandidates) {
+            ranked = ranked.subList(0, maxCandidates);
+        }
+
+        Set<Long> allowed = filter(ranked, filter);
+        List<Long> matching = ranked.stream().filter(allowed::contains).toList();
+        int from = (int) Math.min(pageable.getOffset(), matching.size());
+        int to = Math.min(from + pageable.getPageSize(), matching.size());
+
+        List<Hit> hits = new ArrayList<>(to - from);
+        for (Long projectId : matching.subList(from, to)) {
+            Document document = current.documents.get(projectId);
+            String snippet = document != null ? TextSearchUtil.snippet(document.description(), terms) : null;
+            hits.add(new Hit(projectId, scores.get(projectId), snippet));
+        }
+        return new PageImpl<>(hits, pageable, matching.size());
+    }
+
+    @Override
+    public void indexAfterCommit(Project project) {
+        Document document = Document.of(project);
+        TransactionUtil.afterCommit(() -> index.apply(current -> current.put(document)));
+    }
+
+    @Override
+    public void removeAfterCommit(Long projectId) {
+        TransactionUtil.afterCommit(() -> index.apply(current -> current.remove(projectId)));
+    }
+
+    private Set<Long> filter(List<Long> ids, Filter filter) {
+        List<Long> tagIds = filter.tagIds() != null && !filter.tagIds().isEmpty() ? filter.tagIds() : null;
+        Set<Long> allowed = new HashSet<>();
+        for (int start = 0; start < ids.size(); start += FILTER_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + FILTER_CHUNK_SIZE, ids.size()));
+            allowed.addAll(projectRepository.filterIds(chunk, filter.status(), filter.categoryId(),
+                    filter.minBudget(), filter.maxBudget(), tagIds));
+        }
+        return allowed;
+    }
+
+    /**
+     * Field-weighted term frequencies of one project, plus the description used for snippets.
+     */
+    private record Document(Long id, Map<String, Float> termWeights, String description) {
+        static Document of(Project project) {
+            Map<String, Float> weights = new HashMap<>();
+            addTerms(weights, project.getTitle(), TITLE_WEIGHT);
+            addTerms(weights, project.getDescription(), DESCRIPTION_WEIGHT);
+            return new Document(project.getId(), weights, project.getDescription());
+        }
+
+        private static void addTerms(Map<String, Float> weights, String text, float weight) {
+            TextSearchUtil.words(text).forEach(word -> weights.merge(word, weight, Float::sum));
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final NavigableMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+
+        void put(Document document) {
+            remove(document.id());
+            documents.put(document.id(), document);
+            document.termWeights().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(document.id(), weight));
+        }
+
+        void remove(Long projectId) {
+            Document previous = documents.remove(projectId);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.termWeights().keySet()) {
+                postings.computeIfPresent(term, (key, docs) -> {
+                    docs.remove(projectId);
+                    return docs.isEmpty() ? null : docs;
+                });
+            }
+        }
+
+        /**
+         * Documents matching all terms, each scored as the sum over terms of the best
+         * {@code sqrt(weighted tf) * idf} among the words the term is a prefix of.
+         */
+        Map<Long, Double> score(List<String> terms) {
+            int documentCount = Math.max(1, documents.size());
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Float>> entry
+                        : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                    double idf = Math.log(1 + (double) documentCount / entry.getValue().size());
+                    entry.getValue().forEach((projectId, weight) ->
+                            termScores.merge(projectId, Math.sqrt(weight) * idf, Math::max));
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Double> previous = scores;
+                    termScores.keySet().retainAll(previous.keySet());
+                    termScores.replaceAll((projectId, score) -> score + previous.get(projectId));
+                    scores = termScores;
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return scores != null ? scores : Map.of();
+        }
+    }
+}
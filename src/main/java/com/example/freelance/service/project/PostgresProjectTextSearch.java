@@ -0,0 +1,117 @@
+package com.example.freelance.service.project;
+
+import com.example.freelance.common.util.TextSearchUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+
+/**
+ * Full-text search backed by a stored, generated {@code tsvector} column on {@code projects}
+ * (title weighted above description) and a GIN index. Filters, ranking and paging run in one
+ * statement; {@code ts_headline} is only evaluated for the rows of the requested page.
+ *
+ * <p>The schema has no migrations, so the column and index are created idempotently on startup
+ * unless {@code project.search.manage-schema} is switched off.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "project.search.engine", havingValue = "postgres")
+public class PostgresProjectTextSearch implements ProjectTextSearch {
+    private static final String TEXT_SEARCH_CONFIG = "english";
+    private static final String HEADLINE_OPTIONS = "StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2";
+    private static final List<String> SCHEMA_DDL = List.of(
+            "ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+            "setweight(to_tsvector('english', coalesce(title, '')), 'A') || " +
+            "setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING GIN (search_vector)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final boolean manageSchema;
+
+    public PostgresProjectTextSearch(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            @Value("${project.search.manage-schema:true}") boolean manageSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.manageSchema = manageSchema;
+    }
+
+    @PostConstruct
+    void ensureSchema() {
+        if (manageSchema) {
+            SCHEMA_DDL.forEach(jdbcTemplate::execute);
+            log.info("Project full-text search column and index verified");
+        }
+    }
+
+    @Override
+    public Page<Hit> search(List<String> terms, Filter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("config", TEXT_SEARCH_CONFIG)
+                .addValue("tsquery", TextSearchUtil.toPrefixTsQuery(terms))
+                .addValue("status", filter.status().name());
+        String where = whereClause(filter, params);
+
+        Long total = namedJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projects p WHERE p.search_vector @@ to_tsquery(CAST(:config AS regconfig), :tsquery)" + where,
+                params, Long.class);
+        if (total == null || total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total != null ? total : 0);
+        }
+
+        params.addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset())
+                .addValue("headlineOptions", HEADLINE_OPTIONS);
+        List<Hit> hits = namedJdbcTemplate.query(
+                "WITH q AS (SELECT to_tsquery(CAST(:config AS regconfig), :tsquery) AS query), " +
+                "ranked AS (" +
+                "  SELECT p.id, p.description, ts_rank_cd(p.search_vector, q.query) AS rank" +
+                "  FROM projects p, q WHERE p.search_vector @@ q.query" + where +
+                "  ORDER BY rank DESC, p.id DESC LIMIT :limit OFFSET :offset) " +
+                "SELECT ranked.id, ranked.rank, " +
+                "ts_headline(CAST(:config AS regconfig), " + TextSearchUtil.htmlEscapeSql("ranked.description") +
+                ", q.query, :headlineOptions) AS snippet " +
+                "FROM ranked, q ORDER BY ranked.rank DESC, ranked.id DESC",
+                params,
+                (rs, rowNum) -> new Hit(rs.getLong("id"), rs.getDouble("rank"), rs.getString("snippet")));
+        return new PageImpl<>(hits, pageable, total);
+    }
+
+    /**
+     * Only filters that are set become predicates, so every parameter has a known type.
+     */
+    private static String whereClause(Filter filter, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" AND p.status = :status");
+        if (filter.categoryId() != null) {
+            where.append(" AND p.category_id = :categoryId");
+            params.addValue("categoryId", filter.categoryId());
+        }
+        if (filter.minBudget() != null) {
+            where.append(" AND p.budget_max >= :minBudget");
+            params.addValue("minBudget", filter.minBudget());
+        }
+        if (filter.maxBudget() != null) {
+            where.append(" AND p.budget_min <= :maxBudget");
+            params.addValue("maxBudget", filter.maxBudget());
+        }
+        if (filter.tagIds() != null && !filter.tagIds().isEmpty()) {
+            where.append(" AND EXISTS (SELECT 1 FROM project_tags pt WHERE pt.project_id = p.id AND pt.tag_id IN (:tagIds))");
+            params.addValue("tagIds", filter.tagIds());
+        }
+        return where.toString();
+    }
+}
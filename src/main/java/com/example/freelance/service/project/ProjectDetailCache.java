@@ -0,0 +1,56 @@
+package com.example.freelance.service.project;
+
+import com.example.freelance.dto.project.ProjectResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of fully mapped project details, bounded by size and TTL.
+ * Concurrent misses for the same project are coalesced into a single load.
+ */
+@Component
+public class ProjectDetailCache {
+
+    private final Cache<Long, ProjectResponse> cache;
+
+    public ProjectDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.project-detail.max-size:10000}") long maxSize,
+            @Value("${cache.project-detail.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projectDetail");
+    }
+
+    public ProjectResponse get(Long projectId, Function<Long, ProjectResponse> loader) {
+        return cache.get(projectId, loader);
+    }
+
+    /**
+     * Drops the cached entry now and, when called inside a transaction, again after commit so a
+     * concurrent reader cannot re-populate the cache with pre-commit state.
+     */
+    public void evict(Long projectId) {
+        cache.invalidate(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(projectId);
+                }
+            });
+        }
+    }
+}
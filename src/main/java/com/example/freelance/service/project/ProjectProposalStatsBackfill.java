@@ -0,0 +1,58 @@
+package com.example.freelance.service.project;
+
+import com.example.freelance.repository.project.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Seeds proposal stats for projects created before {@code project_proposal_stats} existed. Each
+ * project is rebuilt from its proposals in its own transaction, so the pass can be interrupted
+ * and is a no-op once every project has stats.
+ */
+@Slf4j
+@Component
+public class ProjectProposalStatsBackfill {
+    private final ProjectRepository projectRepository;
+    private final ProjectProposalStatsService projectProposalStatsService;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ProjectProposalStatsBackfill(
+            ProjectRepository projectRepository,
+            ProjectProposalStatsService projectProposalStatsService,
+            @Value("${project.proposal-stats.backfill.enabled:true}") boolean enabled,
+            @Value("${project.proposal-stats.backfill.batch-size:500}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.projectProposalStatsService = projectProposalStatsService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        int rebuilt = 0;
+        while (true) {
+            List<Long> projectIds = projectRepository.findIdsWithoutProposalStats(PageRequest.of(0, batchSize));
+            if (projectIds.isEmpty()) {
+                break;
+            }
+            for (Long projectId : projectIds) {
+                if (projectProposalStatsService.rebuildIfMissing(projectId)) {
+                    rebuilt++;
+                }
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("Project proposal stats backfilled: projects={}", rebuilt);
+        }
+    }
+}
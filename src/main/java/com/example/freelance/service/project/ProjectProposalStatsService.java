@@ -0,0 +1,138 @@
+package com.example.freelance.service.project;
+
+import com.example.freelance.domain.project.Project;
+import com.example.freelance.domain.project.ProjectProposalStats;
+import com.example.freelance.domain.proposal.ProposalStatus;
+import com.example.freelance.repository.project.ProjectProposalStatsRepository;
+import com.example.freelance.repository.project.ProjectRepository;
+import com.example.freelance.repository.proposal.ProposalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Keeps {@link ProjectProposalStats} in step with proposal writes. Every update is a single
+ * atomic UPDATE on the stats row, so concurrent proposals never lose increments and reads never
+ * have to aggregate the proposals table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectProposalStatsService {
+    private final ProjectProposalStatsRepository projectProposalStatsRepository;
+    private final ProjectRepository projectRepository;
+    private final ProposalRepository proposalRepository;
+    private final ProjectDetailCache projectDetailCache;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordNewProposal(Project project, BigDecimal bidAmount) {
+        Long statsId = statsIdOf(project);
+        if (statsId == null) {
+            rebuild(project);
+            return;
+        }
+        projectProposalStatsRepository.recordNewProposal(statsId, bidAmount, Instant.now());
+        projectDetailCache.evict(project.getId());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBidChange(Project project) {
+        Long statsId = statsIdOf(project);
+        if (statsId == null) {
+            rebuild(project);
+            return;
+        }
+        projectProposalStatsRepository.recalculateBids(statsId, project.getId(), ProposalStatus.WITHDRAWN, Instant.now());
+        projectDetailCache.evict(project.getId());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Project project, ProposalStatus oldStatus, ProposalStatus newStatus, int count) {
+        if (count == 0 || oldStatus == newStatus) {
+            return;
+        }
+        Long statsId = statsIdOf(project);
+        if (statsId == null) {
+            rebuild(project);
+            return;
+        }
+        projectProposalStatsRepository.applyStatusDeltas(
+                statsId,
+                delta(ProposalStatus.PENDING, oldStatus, newStatus, count),
+                delta(ProposalStatus.ACCEPTED, oldStatus, newStatus, count),
+                delta(ProposalStatus.REJECTED, oldStatus, newStatus, count),
+                delta(ProposalStatus.WITHDRAWN, oldStatus, newStatus, count),
+                Instant.now());
+        if (oldStatus == ProposalStatus.WITHDRAWN || newStatus == ProposalStatus.WITHDRAWN) {
+            projectProposalStatsRepository.recalculateBids(statsId, project.getId(), ProposalStatus.WITHDRAWN, Instant.now());
+        }
+        projectDetailCache.evict(project.getId());
+    }
+
+    /**
+     * Recomputes the stats of a project from its proposals. Used for projects created before the
+     * stats row existed and to repair drift after out-of-band data changes.
+     */
+    @Transactional
+    public void rebuild(Project project) {
+        ProjectProposalStats stats = project.getProposalStats();
+        if (stats == null) {
+            stats = new ProjectProposalStats();
+            project.setProposalStats(stats);
+            projectRepository.saveAndFlush(project);
+        }
+        Long projectId = project.getId();
+        Instant now = Instant.now();
+
+        projectProposalStatsRepository.applyStatusDeltas(
+                stats.getId(),
+                (int) proposalRepository.countByProjectIdAndStatus(projectId, ProposalStatus.PENDING) - stats.getPendingCount(),
+                (int) proposalRepository.countByProjectIdAndStatus(projectId, ProposalStatus.ACCEPTED) - stats.getAcceptedCount(),
+                (int) proposalRepository.countByProjectIdAndStatus(projectId, ProposalStatus.REJECTED) - stats.getRejectedCount(),
+                (int) proposalRepository.countByProjectIdAndStatus(projectId, ProposalStatus.WITHDRAWN) - stats.getWithdrawnCount(),
+                now);
+        projectProposalStatsRepository.recalculateBids(stats.getId(), projectId, ProposalStatus.WITHDRAWN, now);
+        Instant lastProposalAt = proposalRepository.findLatestCreatedAtByProjectId(projectId).orElse(null);
+        projectProposalStatsRepository.updateLastProposalAt(stats.getId(), lastProposalAt, now);
+        projectDetailCache.evict(projectId);
+
+        log.info("Project proposal stats rebuilt: projectId={}, statsId={}", projectId, stats.getId());
+    }
+
+    /**
+     * Builds the stats of a project that has none, under a lock on the project row so that
+     * concurrent backfills on several nodes create a single stats row.
+     *
+     * @return whether stats were built
+     */
+    @Transactional
+    public boolean rebuildIfMissing(Long projectId) {
+        Project project = projectRepository.findByIdForUpdate(projectId).orElse(null);
+        if (project == null || project.getProposalStats() != null) {
+            return false;
+        }
+        rebuild(project);
+        return true;
+    }
+
+    private Long statsIdOf(Project project) {
+        ProjectProposalStats stats = project.getProposalStats();
+        return stats != null ? stats.getId() : null;
+    }
+
+    private static int delta(ProposalStatus bucket, ProposalStatus oldStatus, ProposalStatus newStatus, int count) {
+        int delta = 0;
+        if (bucket == oldStatus) {
+            delta -= count;
+        }
+        if (bucket == newStatus) {
+            delta += count;
+        }
+        return delta;
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.freelance.service.project;
 
+import com.example.freelance.common.concurrency.RetryOnConflict;
 import com.example.freelance.common.exception.BadRequestException;
 import com.example.freelance.common.exception.ForbiddenException;
 import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.common.util.HttpCacheUtil;
 import com.example.freelance.domain.project.Category;
 import com.example.freelance.domain.project.Project;
 import com.example.freelance.domain.project.ProjectStatus;
@@ -15,22 +17,31 @@ import com.example.freelance.mapper.project.ProjectMapper;
 import com.example.freelance.repository.project.CategoryRepository;
 import com.example.freelance.repository.project.ProjectRepository;
 import com.example.freelance.repository.project.TagRepository;
+import com.example.freelance.repository.search.SavedSearchMatchRepository;
 import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.common.util.MdcUtil;
+import com.example.freelance.common.util.TextSearchUtil;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.outbox.OutboxPublisher;
+import com.example.freelance.service.outbox.event.ProjectPublished;
+import com.example.freelance.service.recommendation.RecommendationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,6 +54,11 @@ public class ProjectService {
     private final TagRepository tagRepository;
     private final ClientProfileRepository clientProfileRepository;
     private final ProjectMapper projectMapper;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final ProjectDetailCache projectDetailCache;
+    private final OutboxPublisher outboxPublisher;
+    private final RecommendationIndex recommendationIndex;
+    private final ProjectTextSearch projectTextSearch;
 
     @Transactional
     public ProjectResponse createProject(CreateProjectRequest request) {
@@ -73,10 +89,12 @@ public class ProjectService {
         }
 
         project = projectRepository.save(project);
+        projectTextSearch.indexAfterCommit(project);
         return mapToResponse(project);
     }
 
     @Transactional
+    @RetryOnConflict
     public ProjectResponse updateProject(Long projectId, UpdateProjectRequest request) {
         UserPrincipal userPrincipal = getCurrentUser();
         Project project = projectRepository.findByIdAndClientId(projectId, userPrincipal.getId())
@@ -127,14 +145,46 @@ public class ProjectService {
         }
 
         project = projectRepository.save(project);
+        projectDetailCache.evict(projectId);
+        recommendationIndex.updateProjectAfterCommit(project);
+        projectTextSearch.indexAfterCommit(project);
         return mapToResponse(project);
     }
 
-    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new NotFoundException(PROJECT_RESOURCE_NAME, projectId.toString()));
-        return mapToResponse(project);
+        return projectDetailCache.get(projectId, id -> projectRepository.findById(id)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new NotFoundException(PROJECT_RESOURCE_NAME, id.toString())));
+    }
+
+    /**
+     * Cache validators describing exactly the given project payload, including its proposal
+     * statistics, which change without touching the project row.
+     */
+    public HttpCacheUtil.Validators getValidators(ProjectResponse project) {
+        Instant statsUpdatedAt = project.getProposalStats() != null ? project.getProposalStats().getUpdatedAt() : null;
+        return new HttpCacheUtil.Validators(
+                HttpCacheUtil.weakETag("project", project.getId(), project.getUpdatedAt(), statsUpdatedAt),
+                HttpCacheUtil.latest(project.getUpdatedAt(), statsUpdatedAt));
+    }
+
+    /**
+     * Cache validators for a page of projects, derived from the page position and each item's
+     * own ETag. No Last-Modified: an item leaving the page does not make the page any newer.
+     */
+    public HttpCacheUtil.Validators getValidators(Page<ProjectResponse> page) {
+        List<Object> parts = new ArrayList<>();
+        parts.add("projects");
+        parts.add(page.getNumber());
+        parts.add(page.getSize());
+        parts.add(page.getTotalElements());
+        for (ProjectResponse project : page.getContent()) {
+            parts.add(getValidators(project).eTag());
+            if (project.getSearchSnippet() != null) {
+                parts.add(project.getSearchSnippet());
+            }
+        }
+        return new HttpCacheUtil.Validators(HttpCacheUtil.weakETag(parts.toArray()), null);
     }
 
     @Transactional(readOnly = true)
@@ -146,8 +196,14 @@ public class ProjectService {
         return projects.map(this::mapToResponse);
     }
 
+    /**
+     * Searches projects by the structured filters and, when {@code q} contains searchable words,
+     * by title and description text. Text searches match every word as a prefix and are ordered
+     * by relevance instead of the requested sort.
+     */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> searchProjects(
+            String q,
             ProjectStatus status,
             Long categoryId,
             BigDecimal minBudget,
@@ -156,6 +212,12 @@ public class ProjectService {
             Pageable pageable) {
         ProjectStatus searchStatus = status != null ? status : ProjectStatus.OPEN;
 
+        List<String> terms = TextSearchUtil.parseQuery(q);
+        if (!terms.isEmpty()) {
+            return searchProjectsByText(terms,
+                    new ProjectTextSearch.Filter(searchStatus, categoryId, minBudget, maxBudget, tagIds), pageable);
+        }
+
         Page<Project> projects;
 
         if (tagIds != null && !tagIds.isEmpty()) {
@@ -183,7 +245,32 @@ public class ProjectService {
         return projects.map(this::mapToResponse);
     }
 
+    private Page<ProjectResponse> searchProjectsByText(List<String> terms, ProjectTextSearch.Filter filter,
+                                                       Pageable pageable) {
+        Page<ProjectTextSearch.Hit> hits = projectTextSearch.search(terms, filter, pageable);
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotalElements());
+        }
+
+        Map<Long, Project> projects = projectRepository.findByIdIn(
+                        hits.getContent().stream().map(ProjectTextSearch.Hit::projectId).toList())
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<ProjectResponse> content = new ArrayList<>(hits.getNumberOfElements());
+        for (ProjectTextSearch.Hit hit : hits.getContent()) {
+            Project project = projects.get(hit.projectId());
+            if (project != null) {
+                ProjectResponse response = mapToResponse(project);
+                response.setSearchRank(hit.rank());
+                response.setSearchSnippet(hit.snippet());
+                content.add(response);
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.getTotalElements());
+    }
+
     @Transactional
+    @RetryOnConflict
     public void deleteProject(Long projectId) {
         UserPrincipal userPrincipal = getCurrentUser();
         Project project = projectRepository.findByIdAndClientId(projectId, userPrincipal.getId())
@@ -193,10 +280,15 @@ public class ProjectService {
             throw new BadRequestException("Cannot delete project in progress", "PROJECT_IN_PROGRESS");
         }
 
+        savedSearchMatchRepository.deleteByProjectId(projectId);
         projectRepository.delete(project);
+        projectDetailCache.evict(projectId);
+        recommendationIndex.removeProjectAfterCommit(projectId);
+        projectTextSearch.removeAfterCommit(projectId);
     }
 
     @Transactional
+    @RetryOnConflict
     public ProjectResponse publishProject(Long projectId) {
         UserPrincipal userPrincipal = getCurrentUser();
         Project project = projectRepository.findByIdAndClientId(projectId, userPrincipal.getId())
@@ -212,6 +304,9 @@ public class ProjectService {
         ProjectStatus oldStatus = project.getStatus();
         project.setStatus(ProjectStatus.OPEN);
         project = projectRepository.save(project);
+        projectDetailCache.evict(projectId);
+        outboxPublisher.publish(ProjectPublished.of(project));
+        recommendationIndex.updateProjectAfterCommit(project);
         
         log.info("Project published: projectId={}, title={}, oldStatus={}, newStatus={}", 
                 projectId, project.getTitle(), oldStatus, ProjectStatus.OPEN);
@@ -0,0 +1,40 @@
+package com.example.freelance.service.project;
+
+import com.example.freelance.domain.project.Project;
+import com.example.freelance.domain.project.ProjectStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Keyword search over project titles and descriptions, combined with the structured search
+ * filters. Hits are ordered by relevance; the sort of the pageable is ignored.
+ */
+public interface ProjectTextSearch {
+    /**
+     * @param terms query terms as produced by {@link com.example.freelance.common.util.TextSearchUtil#parseQuery}
+     */
+    Page<Hit> search(List<String> terms, Filter filter, Pageable pageable);
+
+    /**
+     * Makes a created or updated project searchable once the transaction commits. Engines that
+     * index inside the database ignore this.
+     */
+    default void indexAfterCommit(Project project) {
+    }
+
+    default void removeAfterCommit(Long projectId) {
+    }
+
+    record Filter(ProjectStatus status, Long categoryId, BigDecimal minBudget, BigDecimal maxBudget, List<Long> tagIds) {
+    }
+
+    /**
+     * A matching project with its relevance and a description excerpt in which matched terms are
+     * wrapped in {@code <mark>} tags.
+     */
+    record Hit(Long projectId, double rank, String snippet) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.freelance.service.proposal;
 
+import com.example.freelance.common.concurrency.RetryOnConflict;
 import com.example.freelance.common.exception.BadRequestException;
 import com.example.freelance.common.exception.ConflictException;
 import com.example.freelance.common.exception.ForbiddenException;
@@ -21,6 +22,15 @@ import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.repository.user.FreelancerProfileRepository;
 import com.example.freelance.common.util.MdcUtil;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.project.ProjectDetailCache;
+import com.example.freelance.service.outbox.OutboxPublisher;
+import com.example.freelance.service.outbox.event.FreelancerInvited;
+import com.example.freelance.service.outbox.event.ProjectPublished;
+import com.example.freelance.service.outbox.event.ProposalAccepted;
+import com.example.freelance.service.outbox.event.ProposalRejected;
+import com.example.freelance.service.outbox.event.ProposalSubmitted;
+import com.example.freelance.service.project.ProjectProposalStatsService;
+import com.example.freelance.service.recommendation.RecommendationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -29,6 +39,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,6 +55,10 @@ public class ProposalService {
     private final FreelancerProfileRepository freelancerProfileRepository;
     private final ClientProfileRepository clientProfileRepository;
     private final ProposalMapper proposalMapper;
+    private final ProjectDetailCache projectDetailCache;
+    private final ProjectProposalStatsService projectProposalStatsService;
+    private final OutboxPublisher outboxPublisher;
+    private final RecommendationIndex recommendationIndex;
 
     @Transactional
     public ProposalResponse createProposal(CreateProposalRequest request) {
@@ -72,10 +89,14 @@ public class ProposalService {
         proposal.setStatus(ProposalStatus.PENDING);
 
         proposal = proposalRepository.save(proposal);
+        projectProposalStatsService.recordNewProposal(project, proposal.getBidAmount());
+        outboxPublisher.publish(new ProposalSubmitted(proposal.getId(), project.getId(), project.getTitle(),
+                userPrincipal.getId(), project.getClient().getUser().getId(), proposal.getBidAmount()));
         return mapToResponse(proposal);
     }
 
     @Transactional
+    @RetryOnConflict
     public ProposalResponse updateProposal(Long proposalId, UpdateProposalRequest request) {
         UserPrincipal userPrincipal = getCurrentUser();
         FreelancerProfile freelancer = getFreelancerProfile(userPrincipal.getId());
@@ -94,6 +115,7 @@ public class ProposalService {
         if (request.getCoverLetter() != null) {
             proposal.setCoverLetter(request.getCoverLetter());
         }
+        BigDecimal oldBidAmount = proposal.getBidAmount();
         if (request.getBidAmount() != null) {
             proposal.setBidAmount(request.getBidAmount());
         }
@@ -101,7 +123,10 @@ public class ProposalService {
             proposal.setEstimatedDuration(request.getEstimatedDuration());
         }
 
-        proposal = proposalRepository.save(proposal);
+        proposal = proposalRepository.saveAndFlush(proposal);
+        if (oldBidAmount.compareTo(proposal.getBidAmount()) != 0) {
+            projectProposalStatsService.recordBidChange(proposal.getProject());
+        }
         return mapToResponse(proposal);
     }
 
@@ -145,6 +170,7 @@ public class ProposalService {
     }
 
     @Transactional
+    @RetryOnConflict
     public ProposalResponse acceptProposal(Long proposalId) {
         UserPrincipal userPrincipal = getCurrentUser();
         Proposal proposal = proposalRepository.findById(proposalId)
@@ -173,25 +199,32 @@ public class ProposalService {
         log.info("Proposal accepted: proposalId={}, projectId={}, freelancerId={}, bidAmount={}", 
                 proposalId, project.getId(), proposal.getFreelancer().getId(), proposal.getBidAmount());
 
-        proposalRepository.findByProjectIdAndStatus(project.getId(), ProposalStatus.PENDING)
-                .forEach(p -> {
-                    if (!p.getId().equals(proposalId)) {
-                        p.setStatus(ProposalStatus.REJECTED);
-                        proposalRepository.save(p);
-                        log.debug("Proposal rejected: proposalId={}, projectId={}", p.getId(), project.getId());
-                    }
-                });
+        projectProposalStatsService.recordStatusChange(project, ProposalStatus.PENDING, ProposalStatus.ACCEPTED, 1);
+
+        List<Long> rejectedIds = proposalRepository.findIdsByProjectIdAndStatus(project.getId(), ProposalStatus.PENDING)
+                .stream()
+                .filter(id -> !id.equals(proposalId))
+                .toList();
+        int rejected = rejectedIds.isEmpty() ? 0 : proposalRepository.updateStatus(
+                rejectedIds, ProposalStatus.PENDING, ProposalStatus.REJECTED, Instant.now());
+        log.debug("Proposals rejected: projectId={}, count={}", project.getId(), rejected);
+        projectProposalStatsService.recordStatusChange(project, ProposalStatus.PENDING, ProposalStatus.REJECTED, rejected);
 
         project.setStatus(ProjectStatus.IN_PROGRESS);
         log.info("Project status changed: projectId={}, oldStatus={}, newStatus={}", 
                 project.getId(), ProjectStatus.OPEN, ProjectStatus.IN_PROGRESS);
         MdcUtil.clearCustomValues();
         projectRepository.save(project);
+        projectDetailCache.evict(project.getId());
+        recommendationIndex.removeProjectAfterCommit(project.getId());
+        outboxPublisher.publish(new ProposalAccepted(proposal.getId(), project.getId(), project.getTitle(),
+                proposal.getFreelancer().getUser().getId(), userPrincipal.getId(), rejectedIds));
 
         return mapToResponse(proposal);
     }
 
     @Transactional
+    @RetryOnConflict
     public ProposalResponse rejectProposal(Long proposalId) {
         UserPrincipal userPrincipal = getCurrentUser();
         Proposal proposal = proposalRepository.findById(proposalId)
@@ -213,6 +246,9 @@ public class ProposalService {
         
         proposal.setStatus(ProposalStatus.REJECTED);
         proposal = proposalRepository.save(proposal);
+        projectProposalStatsService.recordStatusChange(project, oldStatus, ProposalStatus.REJECTED, 1);
+        outboxPublisher.publish(new ProposalRejected(proposal.getId(), project.getId(), project.getTitle(),
+                proposal.getFreelancer().getUser().getId(), userPrincipal.getId()));
         
         log.info("Proposal status changed: proposalId={}, projectId={}, freelancerId={}, oldStatus={}, newStatus={}, changedBy={}", 
                 proposalId, project.getId(), proposal.getFreelancer().getId(), oldStatus, ProposalStatus.REJECTED, userPrincipal.getId());
@@ -222,6 +258,7 @@ public class ProposalService {
     }
 
     @Transactional
+    @RetryOnConflict
     public ProposalResponse withdrawProposal(Long proposalId) {
         UserPrincipal userPrincipal = getCurrentUser();
         FreelancerProfile freelancer = getFreelancerProfile(userPrincipal.getId());
@@ -242,7 +279,8 @@ public class ProposalService {
         MdcUtil.setOperation("WITHDRAW_PROPOSAL");
         
         proposal.setStatus(ProposalStatus.WITHDRAWN);
-        proposal = proposalRepository.save(proposal);
+        proposal = proposalRepository.saveAndFlush(proposal);
+        projectProposalStatsService.recordStatusChange(proposal.getProject(), oldStatus, ProposalStatus.WITHDRAWN, 1);
         
         log.info("Proposal status changed: proposalId={}, projectId={}, freelancerId={}, oldStatus={}, newStatus={}, changedBy={}", 
                 proposalId, proposal.getProject().getId(), proposal.getFreelancer().getId(), oldStatus, ProposalStatus.WITHDRAWN, userPrincipal.getId());
@@ -261,6 +299,7 @@ public class ProposalService {
     }
 
     @Transactional
+    @RetryOnConflict
     public ProposalResponse inviteFreelancer(Long projectId, InviteFreelancerRequest request) {
         UserPrincipal userPrincipal = getCurrentUser();
         ClientProfile client = getClientProfile(userPrincipal.getId());
@@ -287,6 +326,9 @@ public class ProposalService {
         if (project.getStatus() == ProjectStatus.DRAFT) {
             project.setStatus(ProjectStatus.OPEN);
             projectRepository.save(project);
+            projectDetailCache.evict(project.getId());
+            outboxPublisher.publish(ProjectPublished.of(project));
+            recommendationIndex.updateProjectAfterCommit(project);
         }
 
         Proposal proposal = new Proposal();
@@ -298,6 +340,9 @@ public class ProposalService {
         proposal.setStatus(ProposalStatus.PENDING);
 
         proposal = proposalRepository.save(proposal);
+        projectProposalStatsService.recordNewProposal(project, proposal.getBidAmount());
+        outboxPublisher.publish(new FreelancerInvited(proposal.getId(), project.getId(), project.getTitle(),
+                freelancer.getUser().getId(), userPrincipal.getId()));
 
         MdcUtil.setUserId(userPrincipal.getId());
         MdcUtil.setOperation("INVITE_FREELANCER");
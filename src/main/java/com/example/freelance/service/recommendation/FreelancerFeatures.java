@@ -0,0 +1,10 @@
+package com.example.freelance.service.recommendation;
+
+import java.math.BigDecimal;
+
+/**
+ * Precomputed recommendation features of a freelancer profile.
+ */
+record FreelancerFeatures(Long profileId, Long userId, String displayName, BigDecimal hourlyRate, String currency,
+                          BigDecimal rating, TermVector vector) {
+}
@@ -0,0 +1,10 @@
+package com.example.freelance.service.recommendation;
+
+import java.math.BigDecimal;
+
+/**
+ * Precomputed recommendation features of an open project.
+ */
+record ProjectFeatures(Long projectId, Long clientUserId, String title, BigDecimal budgetMin, BigDecimal budgetMax,
+                       String currency, TermVector vector) {
+}
@@ -0,0 +1,285 @@
+package com.example.freelance.service.recommendation;
+
+import com.example.freelance.common.concurrency.RebuildableIndex;
+import com.example.freelance.common.util.TransactionUtil;
+import com.example.freelance.domain.project.Project;
+import com.example.freelance.domain.project.ProjectStatus;
+import com.example.freelance.domain.project.Tag;
+import com.example.freelance.domain.user.FreelancerProfile;
+import com.example.freelance.repository.project.ProjectRepository;
+import com.example.freelance.repository.user.FreelancerProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory feature vectors of all freelancer profiles and open projects, with term postings
+ * for both sides so similarity is only computed for documents sharing a term.
+ *
+ * <p>A full rebuild recomputes document frequencies and every vector on a dedicated fork-join
+ * pool and swaps the result in. Between rebuilds, profile and project changes are applied
+ * incrementally after commit, weighted with the document frequencies of the last rebuild. Changes
+ * that commit while a rebuild is running are replayed onto its result before the swap.
+ */
+@Slf4j
+@Component
+public class RecommendationIndex {
+    private final FreelancerProfileRepository freelancerProfileRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool;
+    private final Timer rebuildTimer;
+    private final RebuildableIndex<Snapshot> snapshot = new RebuildableIndex<>(new Snapshot(Map.of(), 0));
+
+    public RecommendationIndex(
+            FreelancerProfileRepository freelancerProfileRepository,
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${recommendation.rebuild.parallelism:0}") int parallelism) {
+        this.freelancerProfileRepository = freelancerProfileRepository;
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.rebuildTimer = Timer.builder("freelance.recommendations.rebuild")
+                .description("Time to recompute all recommendation feature vectors")
+                .register(meterRegistry);
+        meterRegistry.gauge("freelance.recommendations.indexed.freelancers", this, index -> index.snapshot.get().freelancers.size());
+        meterRegistry.gauge("freelance.recommendations.indexed.projects", this, index -> index.snapshot.get().projects.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${recommendation.rebuild.interval-ms:900000}",
+            fixedDelayString = "${recommendation.rebuild.interval-ms:900000}")
+    public void rebuild() {
+        Snapshot rebuilt = rebuildTimer.record(() -> snapshot.rebuild(() -> {
+            Documents documents = readOnlyTransaction.execute(status -> loadDocuments());
+            return pool.submit(() -> compute(documents)).join();
+        }));
+        log.info("Recommendation index rebuilt: freelancers={}, projects={}, terms={}",
+                rebuilt.freelancers.size(), rebuilt.projects.size(), rebuilt.documentFrequency.size());
+    }
+
+    public FreelancerFeatures freelancerByUserId(Long userId) {
+        Snapshot current = snapshot.get();
+        Long profileId = current.freelancerIdByUserId.get(userId);
+        return profileId != null ? current.freelancers.get(profileId) : null;
+    }
+
+    public FreelancerFeatures freelancer(Long profileId) {
+        return snapshot.get().freelancers.get(profileId);
+    }
+
+    public ProjectFeatures project(Long projectId) {
+        return snapshot.get().projects.get(projectId);
+    }
+
+    /**
+     * Cosine similarity of {@code query} with every open project sharing at least one term.
+     */
+    public Map<Long, Double> similarProjects(TermVector query) {
+        Snapshot current = snapshot.get();
+        return similar(query, current.projectsByTerm, projectId -> {
+            ProjectFeatures features = current.projects.get(projectId);
+            return features != null ? features.vector() : null;
+        });
+    }
+
+    /**
+     * Cosine similarity of {@code query} with every freelancer sharing at least one term.
+     */
+    public Map<Long, Double> similarFreelancers(TermVector query) {
+        Snapshot current = snapshot.get();
+        return similar(query, current.freelancersByTerm, profileId -> {
+            FreelancerFeatures features = current.freelancers.get(profileId);
+            return features != null ? features.vector() : null;
+        });
+    }
+
+    public FreelancerFeatures featuresOf(FreelancerProfile profile) {
+        return toFreelancerFeatures(toRaw(profile), snapshot.get()::idf);
+    }
+
+    public ProjectFeatures featuresOf(Project project) {
+        return toProjectFeatures(toRaw(project), snapshot.get()::idf);
+    }
+
+    public void updateFreelancerAfterCommit(FreelancerProfile profile) {
+        RawFreelancer raw = toRaw(profile);
+        TransactionUtil.afterCommit(() -> snapshot.apply(current -> current.put(toFreelancerFeatures(raw, current::idf))));
+    }
+
+    /**
+     * Indexes the project if it is open and drops it otherwise.
+     */
+    public void updateProjectAfterCommit(Project project) {
+        if (project.getStatus() != ProjectStatus.OPEN) {
+            removeProjectAfterCommit(project.getId());
+            return;
+        }
+        RawProject raw = toRaw(project);
+        TransactionUtil.afterCommit(() -> snapshot.apply(current -> current.put(toProjectFeatures(raw, current::idf))));
+    }
+
+    public void removeProjectAfterCommit(Long projectId) {
+        TransactionUtil.afterCommit(() -> snapshot.apply(current -> current.removeProject(projectId)));
+    }
+
+    private Documents loadDocuments() {
+        List<RawFreelancer> freelancers = freelancerProfileRepository.findAllWithSkills().stream()
+                .map(RecommendationIndex::toRaw)
+                .toList();
+        List<RawProject> projects = projectRepository.findAllWithTagsByStatus(ProjectStatus.OPEN).stream()
+                .map(RecommendationIndex::toRaw)
+                .toList();
+        return new Documents(freelancers, projects);
+    }
+
+    private static Snapshot compute(Documents documents) {
+        Map<String, Integer> documentFrequency = Stream.concat(
+                        documents.freelancers().parallelStream().map(RawFreelancer::terms),
+                        documents.projects().parallelStream().map(RawProject::terms))
+                .parallel()
+                .flatMap(Set::stream)
+                .collect(Collectors.toConcurrentMap(term -> term, term -> 1, Integer::sum));
+        Snapshot rebuilt = new Snapshot(documentFrequency, documents.freelancers().size() + documents.projects().size());
+        documents.freelancers().parallelStream()
+                .map(raw -> toFreelancerFeatures(raw, rebuilt::idf))
+                .forEach(rebuilt::put);
+        documents.projects().parallelStream()
+                .map(raw -> toProjectFeatures(raw, rebuilt::idf))
+                .forEach(rebuilt::put);
+        return rebuilt;
+    }
+
+    private static Map<Long, Double> similar(TermVector query, Map<String, Set<Long>> postings,
+                                             Function<Long, TermVector> vectors) {
+        Map<Long, Double> similarity = new HashMap<>();
+        for (Map.Entry<String, Double> term : query.weights().entrySet()) {
+            for (Long id : postings.getOrDefault(term.getKey(), Set.of())) {
+                TermVector vector = vectors.apply(id);
+                if (vector != null) {
+                    similarity.merge(id, term.getValue() * vector.weight(term.getKey()), Double::sum);
+                }
+            }
+        }
+        return similarity;
+    }
+
+    private static FreelancerFeatures toFreelancerFeatures(RawFreelancer raw, ToDoubleFunction<String> idf) {
+        return new FreelancerFeatures(raw.profileId(), raw.userId(), raw.displayName(), raw.hourlyRate(),
+                raw.currency(), raw.rating(), TermVector.of(raw.terms(), idf));
+    }
+
+    private static ProjectFeatures toProjectFeatures(RawProject raw, ToDoubleFunction<String> idf) {
+        return new ProjectFeatures(raw.projectId(), raw.clientUserId(), raw.title(), raw.budgetMin(),
+                raw.budgetMax(), raw.currency(), TermVector.of(raw.terms(), idf));
+    }
+
+    private static RawFreelancer toRaw(FreelancerProfile profile) {
+        return new RawFreelancer(profile.getId(), profile.getUser().getId(), profile.getDisplayName(),
+                profile.getHourlyRate(), profile.getCurrency(), profile.getRating(), TermVector.terms(profile.getSkills()));
+    }
+
+    private static RawProject toRaw(Project project) {
+        return new RawProject(project.getId(), project.getClient().getUser().getId(), project.getTitle(),
+                project.getBudgetMin(), project.getBudgetMax(), project.getCurrency(),
+                TermVector.terms(project.getTags().stream().map(Tag::getName).toList()));
+    }
+
+    private record RawFreelancer(Long profileId, Long userId, String displayName, BigDecimal hourlyRate,
+                                 String currency, BigDecimal rating, Set<String> terms) {
+    }
+
+    private record RawProject(Long projectId, Long clientUserId, String title, BigDecimal budgetMin,
+                              BigDecimal budgetMax, String currency, Set<String> terms) {
+    }
+
+    private record Documents(List<RawFreelancer> freelancers, List<RawProject> projects) {
+    }
+
+    /**
+     * One generation of the index. Writers are serialized by the enclosing index; readers may see
+     * a document half-posted, which only costs them that document for the current request.
+     */
+    private static final class Snapshot {
+        private final Map<String, Integer> documentFrequency;
+        private final int documents;
+        private final Map<Long, FreelancerFeatures> freelancers = new ConcurrentHashMap<>();
+        private final Map<Long, Long> freelancerIdByUserId = new ConcurrentHashMap<>();
+        private final Map<Long, ProjectFeatures> projects = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> freelancersByTerm = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> projectsByTerm = new ConcurrentHashMap<>();
+
+        Snapshot(Map<String, Integer> documentFrequency, int documents) {
+            this.documentFrequency = documentFrequency;
+            this.documents = documents;
+        }
+
+        double idf(String term) {
+            int frequency = documentFrequency.getOrDefault(term, 0);
+            return Math.log((documents + 1.0) / (frequency + 1.0)) + 1.0;
+        }
+
+        void put(FreelancerFeatures features) {
+            FreelancerFeatures previous = freelancers.put(features.profileId(), features);
+            if (previous != null) {
+                unpost(freelancersByTerm, previous.vector(), previous.profileId());
+            }
+            freelancerIdByUserId.put(features.userId(), features.profileId());
+            post(freelancersByTerm, features.vector(), features.profileId());
+        }
+
+        void put(ProjectFeatures features) {
+            ProjectFeatures previous = projects.put(features.projectId(), features);
+            if (previous != null) {
+                unpost(projectsByTerm, previous.vector(), previous.projectId());
+            }
+            post(projectsByTerm, features.vector(), features.projectId());
+        }
+
+        void removeProject(Long projectId) {
+            ProjectFeatures previous = projects.remove(projectId);
+            if (previous != null) {
+                unpost(projectsByTerm, previous.vector(), projectId);
+            }
+        }
+
+        private static void post(Map<String, Set<Long>> postings, TermVector vector, Long id) {
+            vector.weights().keySet().forEach(term -> postings.computeIfAbsent(term, k -> ConcurrentHashMap.newKeySet()).add(id));
+        }
+
+        private static void unpost(Map<String, Set<Long>> postings, TermVector vector, Long id) {
+            vector.weights().keySet().forEach(term -> postings.computeIfPresent(term, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+    }
+}
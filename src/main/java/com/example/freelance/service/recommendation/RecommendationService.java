@@ -0,0 +1,228 @@
+package com.example.freelance.service.recommendation;
+
+import com.example.freelance.common.exception.ForbiddenException;
+import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.dto.project.RecommendedFreelancerResponse;
+import com.example.freelance.dto.project.RecommendedProjectResponse;
+import com.example.freelance.repository.project.ProjectRepository;
+import com.example.freelance.repository.proposal.ProposalRepository;
+import com.example.freelance.repository.user.FreelancerProfileRepository;
+import com.example.freelance.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Serves top-K recommendations in both directions from {@link RecommendationIndex}. Candidates
+ * must share at least one skill/tag term; they are ranked by a weighted sum of TF-IDF cosine
+ * similarity, budget fit and rating. Projects the freelancer already has a proposal on are
+ * excluded in both directions.
+ */
+@Service
+public class RecommendationService {
+    private static final double NEUTRAL = 0.5;
+    private static final BigDecimal MAX_RATING = BigDecimal.valueOf(5);
+
+    private final RecommendationIndex recommendationIndex;
+    private final FreelancerProfileRepository freelancerProfileRepository;
+    private final ProjectRepository projectRepository;
+    private final ProposalRepository proposalRepository;
+    private final Timer projectsTimer;
+    private final Timer freelancersTimer;
+    private final double skillWeight;
+    private final double budgetWeight;
+    private final double ratingWeight;
+    private final double referenceHours;
+    private final int maxLimit;
+
+    public RecommendationService(
+            RecommendationIndex recommendationIndex,
+            FreelancerProfileRepository freelancerProfileRepository,
+            ProjectRepository projectRepository,
+            ProposalRepository proposalRepository,
+            MeterRegistry meterRegistry,
+            @Value("${recommendation.weight.skill:0.7}") double skillWeight,
+            @Value("${recommendation.weight.budget:0.2}") double budgetWeight,
+            @Value("${recommendation.weight.rating:0.1}") double ratingWeight,
+            @Value("${recommendation.reference-hours:40}") double referenceHours,
+            @Value("${recommendation.max-limit:50}") int maxLimit) {
+        this.recommendationIndex = recommendationIndex;
+        this.freelancerProfileRepository = freelancerProfileRepository;
+        this.projectRepository = projectRepository;
+        this.proposalRepository = proposalRepository;
+        this.projectsTimer = latencyTimer(meterRegistry, "projects");
+        this.freelancersTimer = latencyTimer(meterRegistry, "freelancers");
+        this.skillWeight = skillWeight;
+        this.budgetWeight = budgetWeight;
+        this.ratingWeight = ratingWeight;
+        this.referenceHours = referenceHours;
+        this.maxLimit = maxLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecommendedProjectResponse> getRecommendedProjects(int limit) {
+        return projectsTimer.record(() -> {
+            UserPrincipal userPrincipal = getCurrentUser();
+            FreelancerFeatures freelancer = recommendationIndex.freelancerByUserId(userPrincipal.getId());
+            if (freelancer == null) {
+                freelancer = freelancerProfileRepository.findByUserId(userPrincipal.getId())
+                        .map(recommendationIndex::featuresOf)
+                        .orElseThrow(() -> new ForbiddenException("Only freelancers can get project recommendations", "FREELANCER_PROFILE_REQUIRED"));
+            }
+
+            Set<Long> excluded = new HashSet<>(proposalRepository.findProjectIdsByFreelancerId(freelancer.profileId()));
+            FreelancerFeatures self = freelancer;
+            List<Scored<ProjectFeatures>> top = topK(
+                    recommendationIndex.similarProjects(freelancer.vector()),
+                    recommendationIndex::project,
+                    project -> !excluded.contains(project.projectId()) && !project.clientUserId().equals(self.userId()),
+                    (project, similarity) -> score(similarity, project, self),
+                    clamp(limit));
+
+            return top.stream()
+                    .map(scored -> RecommendedProjectResponse.builder()
+                            .projectId(scored.item().projectId())
+                            .title(scored.item().title())
+                            .budgetMin(scored.item().budgetMin())
+                            .budgetMax(scored.item().budgetMax())
+                            .currency(scored.item().currency())
+                            .score(scored.score())
+                            .matchedTags(sharedTerms(self.vector(), scored.item().vector()))
+                            .build())
+                    .toList();
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecommendedFreelancerResponse> getRecommendedFreelancers(Long projectId, int limit) {
+        return freelancersTimer.record(() -> {
+            UserPrincipal userPrincipal = getCurrentUser();
+            ProjectFeatures project = recommendationIndex.project(projectId);
+            if (project == null) {
+                project = projectRepository.findById(projectId)
+                        .map(recommendationIndex::featuresOf)
+                        .orElseThrow(() -> new NotFoundException("Project", projectId.toString()));
+            }
+            if (!project.clientUserId().equals(userPrincipal.getId())) {
+                throw new ForbiddenException("Only project owner can get freelancer recommendations", "NOT_PROJECT_OWNER");
+            }
+
+            Set<Long> excluded = new HashSet<>(proposalRepository.findFreelancerIdsByProjectId(projectId));
+            ProjectFeatures self = project;
+            List<Scored<FreelancerFeatures>> top = topK(
+                    recommendationIndex.similarFreelancers(project.vector()),
+                    recommendationIndex::freelancer,
+                    freelancer -> !excluded.contains(freelancer.profileId()) && !freelancer.userId().equals(self.clientUserId()),
+                    (freelancer, similarity) -> score(similarity, self, freelancer),
+                    clamp(limit));
+
+            return top.stream()
+                    .map(scored -> RecommendedFreelancerResponse.builder()
+                            .freelancerId(scored.item().profileId())
+                            .userId(scored.item().userId())
+                            .displayName(scored.item().displayName())
+                            .hourlyRate(scored.item().hourlyRate())
+                            .currency(scored.item().currency())
+                            .rating(scored.item().rating())
+                            .score(scored.score())
+                            .matchedSkills(sharedTerms(self.vector(), scored.item().vector()))
+                            .build())
+                    .toList();
+        });
+    }
+
+    private double score(double similarity, ProjectFeatures project, FreelancerFeatures freelancer) {
+        return skillWeight * similarity
+                + budgetWeight * budgetFit(project, freelancer)
+                + ratingWeight * ratingScore(freelancer.rating());
+    }
+
+    /**
+     * How many hours of the freelancer's time the project budget buys, relative to a reference
+     * engagement and capped at 1. Unknown rates or budgets and currency mismatches are neutral.
+     */
+    private double budgetFit(ProjectFeatures project, FreelancerFeatures freelancer) {
+        BigDecimal hourlyRate = freelancer.hourlyRate();
+        BigDecimal budget = project.budgetMin() != null && project.budgetMax() != null
+                ? project.budgetMin().add(project.budgetMax()).divide(BigDecimal.TWO, MathContext.DECIMAL64)
+                : project.budgetMax() != null ? project.budgetMax() : project.budgetMin();
+        if (hourlyRate == null || hourlyRate.signum() <= 0 || budget == null) {
+            return NEUTRAL;
+        }
+        if (project.currency() != null && freelancer.currency() != null
+                && !project.currency().equalsIgnoreCase(freelancer.currency())) {
+            return NEUTRAL;
+        }
+        double affordableHours = budget.divide(hourlyRate, MathContext.DECIMAL64).doubleValue();
+        return Math.min(1.0, affordableHours / referenceHours);
+    }
+
+    private static double ratingScore(BigDecimal rating) {
+        return rating != null ? rating.divide(MAX_RATING, MathContext.DECIMAL64).doubleValue() : NEUTRAL;
+    }
+
+    private static <T> List<Scored<T>> topK(Map<Long, Double> similarities, Function<Long, T> lookup,
+                                            Predicate<T> eligible,
+                                            ToDoubleBiFunction<T, Double> scorer, int k) {
+        PriorityQueue<Scored<T>> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Scored::score));
+        similarities.forEach((id, similarity) -> {
+            T item = lookup.apply(id);
+            if (item == null || !eligible.test(item)) {
+                return;
+            }
+            double score = scorer.applyAsDouble(item, similarity);
+            if (heap.size() < k) {
+                heap.add(new Scored<>(item, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Scored<>(item, score));
+            }
+        });
+        List<Scored<T>> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingDouble(Scored<T>::score).reversed());
+        return ranked;
+    }
+
+    private static List<String> sharedTerms(TermVector a, TermVector b) {
+        return a.weights().keySet().stream()
+                .filter(b.weights()::containsKey)
+                .sorted()
+                .toList();
+    }
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, maxLimit));
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String direction) {
+        return Timer.builder("freelance.recommendations.latency")
+                .description("Time to serve a recommendation request")
+                .tag("direction", direction)
+                .serviceLevelObjectives(Duration.ofMillis(20))
+                .register(meterRegistry);
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    private record Scored<T>(T item, double score) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.freelance.service.recommendation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse, L2-normalized TF-IDF vector over skill and tag terms. Every term occurs at most once
+ * per document, so the weight of a term is its IDF; the dot product of two vectors is their
+ * cosine similarity.
+ */
+record TermVector(Map<String, Double> weights) {
+    static final TermVector EMPTY = new TermVector(Map.of());
+
+    static Set<String> terms(Collection<String> rawTerms) {
+        return rawTerms.stream()
+                .filter(term -> term != null && !term.isBlank())
+                .map(term -> term.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    static TermVector of(Set<String> terms, ToDoubleFunction<String> idf) {
+        if (terms.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Double> weights = new HashMap<>(terms.size() * 2);
+        double sumOfSquares = 0;
+        for (String term : terms) {
+            double weight = idf.applyAsDouble(term);
+            weights.put(term, weight);
+            sumOfSquares += weight * weight;
+        }
+        double norm = Math.sqrt(sumOfSquares);
+        weights.replaceAll((term, weight) -> weight / norm);
+        return new TermVector(Map.copyOf(weights));
+    }
+
+    double weight(String term) {
+        return weights.getOrDefault(term, 0.0);
+    }
+
+    boolean isEmpty() {
+        return weights.isEmpty();
+    }
+}
@@ -20,9 +20,9 @@ import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.repository.user.FreelancerProfileRepository;
 import com.example.freelance.repository.user.UserRepository;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.recommendation.RecommendationIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -30,7 +30,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -41,6 +40,7 @@ public class ReviewService {
     private final FreelancerProfileRepository freelancerProfileRepository;
     private final ClientProfileRepository clientProfileRepository;
     private final ReviewMapper reviewMapper;
+    private final RecommendationIndex recommendationIndex;
 
     @Transactional
     public ReviewResponse createReview(CreateReviewRequest request) {
@@ -125,12 +125,7 @@ public class ReviewService {
             throw new ForbiddenException("Access denied to this assignment", "ACCESS_DENIED");
         }
 
-        List<Review> allReviews = reviewRepository.findByAssignmentId(assignmentId);
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allReviews.size());
-        List<Review> pageContent = allReviews.subList(start, end);
-        Page<Review> reviews = new PageImpl<>(pageContent, pageable, allReviews.size());
-
+        Page<Review> reviews = reviewRepository.findByAssignmentId(assignmentId, pageable);
         return reviews.map(this::mapToResponse);
     }
 
@@ -141,6 +136,7 @@ public class ReviewService {
                 FreelancerProfile profile = review.getTargetFreelancer();
                 profile.setRating(averageRating.setScale(2, RoundingMode.HALF_UP));
                 freelancerProfileRepository.save(profile);
+                recommendationIndex.updateFreelancerAfterCommit(profile);
             }
         } else if (review.getReviewType() == ReviewType.FREELANCER_TO_CLIENT && review.getTargetClient() != null) {
             BigDecimal averageRating = reviewRepository.getAverageRatingByClientId(review.getTargetClient().getId());
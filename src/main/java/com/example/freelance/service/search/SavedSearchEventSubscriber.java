@@ -0,0 +1,32 @@
+package com.example.freelance.service.search;
+
+import com.example.freelance.service.outbox.DomainEvent;
+import com.example.freelance.service.outbox.DomainEventPayload;
+import com.example.freelance.service.outbox.DomainEventSubscriber;
+import com.example.freelance.service.outbox.event.ProjectPublished;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Matches every published project against the saved search index once, instead of users
+ * re-running their searches.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavedSearchEventSubscriber implements DomainEventSubscriber {
+    private final SavedSearchService savedSearchService;
+
+    @Override
+    public Set<Class<? extends DomainEventPayload>> eventTypes() {
+        return Set.of(ProjectPublished.class);
+    }
+
+    @Override
+    public void onEvent(DomainEvent<?> event) {
+        if (event.payload() instanceof ProjectPublished published) {
+            savedSearchService.recordMatches(published);
+        }
+    }
+}
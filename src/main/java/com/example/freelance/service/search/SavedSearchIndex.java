@@ -0,0 +1,141 @@
+package com.example.freelance.service.search;
+
+import com.example.freelance.common.concurrency.RebuildableIndex;
+import com.example.freelance.common.util.TransactionUtil;
+import com.example.freelance.domain.search.SavedSearch;
+import com.example.freelance.repository.search.SavedSearchRepository;
+import com.example.freelance.service.outbox.event.ProjectPublished;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory reverse index of saved searches, used to find the searches a newly published project
+ * satisfies without running any of them. Each search is posted under its most selective filter:
+ * every one of its tags if it has tags, otherwise its category, otherwise the match-all list.
+ * A project only has to look at the postings of its own tags and category plus the match-all
+ * list, and each candidate is then checked against its full predicate.
+ *
+ * <p>The index is loaded on startup and kept current by this node's writes after they commit;
+ * a periodic rebuild picks up searches changed on other nodes. Writes that commit while a rebuild
+ * is loading are replayed onto the rebuilt index before it is swapped in.
+ */
+@Slf4j
+@Component
+public class SavedSearchIndex {
+    private final SavedSearchRepository savedSearchRepository;
+    private final RebuildableIndex<Postings> postings = new RebuildableIndex<>(new Postings());
+
+    public SavedSearchIndex(SavedSearchRepository savedSearchRepository, MeterRegistry meterRegistry) {
+        this.savedSearchRepository = savedSearchRepository;
+        meterRegistry.gauge("freelance.saved_search.indexed", this, index -> index.postings.get().predicates.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${saved-search.index.refresh-interval-ms:300000}",
+            fixedDelayString = "${saved-search.index.refresh-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Postings rebuilt = postings.rebuild(() -> {
+            Postings loaded = new Postings();
+            for (SavedSearch savedSearch : savedSearchRepository.findAllWithTags()) {
+                loaded.add(SavedSearchPredicate.compile(savedSearch));
+            }
+            return loaded;
+        });
+        log.debug("Saved search index rebuilt: searches={}", rebuilt.predicates.size());
+    }
+
+    /**
+     * Returns the saved searches matched by the project, at most one per user, keyed by user id.
+     */
+    public Map<Long, Long> percolate(ProjectPublished project) {
+        Postings current = postings.get();
+        Map<Long, Long> searchIdByUser = new LinkedHashMap<>();
+        for (Long searchId : current.candidates(project)) {
+            SavedSearchPredicate predicate = current.predicates.get(searchId);
+            if (predicate != null && !predicate.userId().equals(project.clientUserId()) && predicate.matches(project)) {
+                searchIdByUser.putIfAbsent(predicate.userId(), predicate.id());
+            }
+        }
+        return searchIdByUser;
+    }
+
+    public void addAfterCommit(SavedSearch savedSearch) {
+        SavedSearchPredicate predicate = SavedSearchPredicate.compile(savedSearch);
+        TransactionUtil.afterCommit(() -> postings.apply(current -> current.add(predicate)));
+    }
+
+    public void removeAfterCommit(Long savedSearchId) {
+        TransactionUtil.afterCommit(() -> postings.apply(current -> current.remove(savedSearchId)));
+    }
+
+    /**
+     * Posting lists for one generation of the index. Writers are serialized by the enclosing
+     * index; readers may run concurrently and tolerate a search being half-posted, since every
+     * candidate is re-checked against {@link #predicates}.
+     */
+    private static final class Postings {
+        private final Map<Long, SavedSearchPredicate> predicates = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> byTag = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> byCategory = new ConcurrentHashMap<>();
+        private final Set<Long> matchAll = ConcurrentHashMap.newKeySet();
+
+        void add(SavedSearchPredicate predicate) {
+            remove(predicate.id());
+            predicates.put(predicate.id(), predicate);
+            if (!predicate.tagIds().isEmpty()) {
+                predicate.tagIds().forEach(tagId -> post(byTag, tagId, predicate.id()));
+            } else if (predicate.categoryId() != null) {
+                post(byCategory, predicate.categoryId(), predicate.id());
+            } else {
+                matchAll.add(predicate.id());
+            }
+        }
+
+        void remove(Long searchId) {
+            SavedSearchPredicate predicate = predicates.remove(searchId);
+            if (predicate == null) {
+                return;
+            }
+            predicate.tagIds().forEach(tagId -> unpost(byTag, tagId, searchId));
+            if (predicate.categoryId() != null) {
+                unpost(byCategory, predicate.categoryId(), searchId);
+            }
+            matchAll.remove(searchId);
+        }
+
+        List<Long> candidates(ProjectPublished project) {
+            List<Long> candidates = new ArrayList<>(matchAll);
+            for (Long tagId : project.tagIds()) {
+                candidates.addAll(byTag.getOrDefault(tagId, Set.of()));
+            }
+            if (project.categoryId() != null) {
+                candidates.addAll(byCategory.getOrDefault(project.categoryId(), Set.of()));
+            }
+            return candidates;
+        }
+
+        private static void post(Map<Long, Set<Long>> postings, Long key, Long searchId) {
+            postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(searchId);
+        }
+
+        private static void unpost(Map<Long, Set<Long>> postings, Long key, Long searchId) {
+            postings.computeIfPresent(key, (k, ids) -> {
+                ids.remove(searchId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
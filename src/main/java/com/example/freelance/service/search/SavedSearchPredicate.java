@@ -0,0 +1,44 @@
+package com.example.freelance.service.search;
+
+import com.example.freelance.domain.search.SavedSearch;
+import com.example.freelance.service.outbox.event.ProjectPublished;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Immutable, compiled form of a saved search. {@link #matches} mirrors the filters of
+ * {@code ProjectRepository.searchProjectsWithMultipleTags}: budget ranges must overlap and a
+ * project needs at least one of the tags.
+ */
+record SavedSearchPredicate(Long id, Long userId, Long categoryId, BigDecimal minBudget, BigDecimal maxBudget,
+                            Set<Long> tagIds) {
+
+    static SavedSearchPredicate compile(SavedSearch savedSearch) {
+        return new SavedSearchPredicate(savedSearch.getId(), savedSearch.getUserId(), savedSearch.getCategoryId(),
+                savedSearch.getMinBudget(), savedSearch.getMaxBudget(), Set.copyOf(savedSearch.getTagIds()));
+    }
+
+    boolean matches(ProjectPublished project) {
+        if (categoryId != null && !categoryId.equals(project.categoryId())) {
+            return false;
+        }
+        if (minBudget != null && (project.budgetMax() == null || project.budgetMax().compareTo(minBudget) < 0)) {
+            return false;
+        }
+        if (maxBudget != null && (project.budgetMin() == null || project.budgetMin().compareTo(maxBudget) > 0)) {
+            return false;
+        }
+        return tagIds.isEmpty() || containsAny(project.tagIds());
+    }
+
+    private boolean containsAny(Collection<Long> projectTagIds) {
+        for (Long tagId : projectTagIds) {
+            if (tagIds.contains(tagId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
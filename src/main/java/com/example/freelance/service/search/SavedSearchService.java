@@ -0,0 +1,170 @@
+package com.example.freelance.service.search;
+
+import com.example.freelance.common.exception.BadRequestException;
+import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.common.util.MdcUtil;
+import com.example.freelance.domain.project.Project;
+import com.example.freelance.domain.search.SavedSearch;
+import com.example.freelance.domain.search.SavedSearchMatch;
+import com.example.freelance.dto.search.CreateSavedSearchRequest;
+import com.example.freelance.dto.search.SavedSearchMatchResponse;
+import com.example.freelance.dto.search.SavedSearchResponse;
+import com.example.freelance.mapper.search.SavedSearchMapper;
+import com.example.freelance.repository.project.CategoryRepository;
+import com.example.freelance.repository.project.ProjectRepository;
+import com.example.freelance.repository.project.TagRepository;
+import com.example.freelance.repository.search.SavedSearchMatchRepository;
+import com.example.freelance.repository.search.SavedSearchRepository;
+import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.outbox.event.ProjectPublished;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class SavedSearchService {
+    private static final String SAVED_SEARCH_RESOURCE_NAME = "SavedSearch";
+    private static final String MATCHES_METRIC = "freelance.saved_search.matches";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final ProjectRepository projectRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final SavedSearchMapper savedSearchMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxPerUser;
+
+    public SavedSearchService(
+            SavedSearchRepository savedSearchRepository,
+            SavedSearchMatchRepository savedSearchMatchRepository,
+            CategoryRepository categoryRepository,
+            TagRepository tagRepository,
+            ProjectRepository projectRepository,
+            SavedSearchIndex savedSearchIndex,
+            SavedSearchMapper savedSearchMapper,
+            MeterRegistry meterRegistry,
+            @Value("${saved-search.max-per-user:20}") int maxPerUser) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.projectRepository = projectRepository;
+        this.savedSearchIndex = savedSearchIndex;
+        this.savedSearchMapper = savedSearchMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxPerUser = maxPerUser;
+    }
+
+    @Transactional
+    public SavedSearchResponse createSavedSearch(CreateSavedSearchRequest request) {
+        UserPrincipal userPrincipal = getCurrentUser();
+
+        if (savedSearchRepository.countByUserId(userPrincipal.getId()) >= maxPerUser) {
+            throw new BadRequestException("Saved search limit of " + maxPerUser + " reached", "SAVED_SEARCH_LIMIT_REACHED");
+        }
+        validateBudget(request.getMinBudget(), request.getMaxBudget());
+        if (request.getCategoryId() != null && !categoryRepository.existsById(request.getCategoryId())) {
+            throw new NotFoundException("Category", request.getCategoryId().toString());
+        }
+        Set<Long> tagIds = request.getTagIds() != null ? new HashSet<>(request.getTagIds()) : new HashSet<>();
+        if (!tagIds.isEmpty() && tagRepository.findAllById(tagIds).size() != tagIds.size()) {
+            throw new BadRequestException("One or more tags do not exist", "INVALID_TAG_IDS");
+        }
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUserId(userPrincipal.getId());
+        savedSearch.setName(request.getName());
+        savedSearch.setCategoryId(request.getCategoryId());
+        savedSearch.setMinBudget(request.getMinBudget());
+        savedSearch.setMaxBudget(request.getMaxBudget());
+        savedSearch.setTagIds(tagIds);
+        savedSearch = savedSearchRepository.save(savedSearch);
+        savedSearchIndex.addAfterCommit(savedSearch);
+
+        MdcUtil.setUserId(userPrincipal.getId());
+        MdcUtil.setOperation("CREATE_SAVED_SEARCH");
+        log.info("Saved search created: savedSearchId={}, categoryId={}, tags={}",
+                savedSearch.getId(), savedSearch.getCategoryId(), tagIds.size());
+        MdcUtil.clearCustomValues();
+
+        return savedSearchMapper.toResponse(savedSearch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getMySavedSearches() {
+        return savedSearchRepository.findByUserIdOrderByIdAsc(getCurrentUser().getId()).stream()
+                .map(savedSearchMapper::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long savedSearchId) {
+        UserPrincipal userPrincipal = getCurrentUser();
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUserId(savedSearchId, userPrincipal.getId())
+                .orElseThrow(() -> new NotFoundException(SAVED_SEARCH_RESOURCE_NAME, savedSearchId.toString()));
+
+        savedSearchMatchRepository.deleteBySavedSearchId(savedSearchId);
+        savedSearchRepository.delete(savedSearch);
+        savedSearchIndex.removeAfterCommit(savedSearchId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SavedSearchMatchResponse> getMyFeed(Pageable pageable) {
+        return savedSearchMatchRepository.findByUserId(getCurrentUser().getId(), pageable)
+                .map(savedSearchMapper::toMatchResponse);
+    }
+
+    /**
+     * Adds a newly published project to the feed of every user with a matching saved search.
+     * Users that already have the project in their feed are skipped, so redelivery is harmless.
+     */
+    @Transactional
+    public int recordMatches(ProjectPublished project) {
+        Map<Long, Long> searchIdByUser = savedSearchIndex.percolate(project);
+        if (searchIdByUser.isEmpty()) {
+            return 0;
+        }
+        savedSearchMatchRepository.findUserIdsByProjectId(project.projectId()).forEach(searchIdByUser::remove);
+
+        Project projectRef = projectRepository.getReferenceById(project.projectId());
+        List<SavedSearchMatch> matches = new ArrayList<>(searchIdByUser.size());
+        searchIdByUser.forEach((userId, searchId) -> {
+            SavedSearchMatch match = new SavedSearchMatch();
+            match.setUserId(userId);
+            match.setSavedSearch(savedSearchRepository.getReferenceById(searchId));
+            match.setProject(projectRef);
+            matches.add(match);
+        });
+        if (!matches.isEmpty()) {
+            savedSearchMatchRepository.insertAll(matches);
+            meterRegistry.counter(MATCHES_METRIC).increment(matches.size());
+        }
+        log.debug("Saved searches matched: projectId={}, matches={}", project.projectId(), matches.size());
+        return matches.size();
+    }
+
+    private void validateBudget(BigDecimal minBudget, BigDecimal maxBudget) {
+        if (minBudget != null && maxBudget != null && minBudget.compareTo(maxBudget) > 0) {
+            throw new BadRequestException("Minimum budget cannot be greater than maximum budget", "INVALID_BUDGET_RANGE");
+        }
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
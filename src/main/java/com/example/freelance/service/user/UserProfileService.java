@@ -2,6 +2,7 @@ package com.example.freelance.service.user;
 
 import com.example.freelance.common.exception.ForbiddenException;
 import com.example.freelance.common.exception.NotFoundException;
+import com.example.freelance.common.util.HttpCacheUtil;
 import com.example.freelance.domain.user.ClientProfile;
 import com.example.freelance.domain.user.FreelancerProfile;
 import com.example.freelance.dto.user.ClientProfileResponse;
@@ -14,6 +15,7 @@ import com.example.freelance.repository.user.ClientProfileRepository;
 import com.example.freelance.repository.user.FreelancerProfileRepository;
 import com.example.freelance.repository.user.UserRepository;
 import com.example.freelance.security.UserPrincipal;
+import com.example.freelance.service.recommendation.RecommendationIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +36,7 @@ public class UserProfileService {
     private final UserRepository userRepository;
     private final FreelancerProfileMapper freelancerProfileMapper;
     private final ClientProfileMapper clientProfileMapper;
+    private final RecommendationIndex recommendationIndex;
 
     @Transactional(readOnly = true)
     public FreelancerProfileResponse getFreelancerProfile(Long userId) {
@@ -65,6 +69,8 @@ public class UserProfileService {
         }
         if (request.getSkills() != null) {
             profile.setSkills(new ArrayList<>(request.getSkills()));
+            // Collection-only changes do not trigger auditing, but updatedAt drives the profile ETag.
+            profile.setUpdatedAt(Instant.now());
         }
         if (request.getHourlyRate() != null) {
             profile.setHourlyRate(request.getHourlyRate());
@@ -74,9 +80,26 @@ public class UserProfileService {
         }
 
         profile = freelancerProfileRepository.save(profile);
+        recommendationIndex.updateFreelancerAfterCommit(profile);
         return mapFreelancerToResponse(profile);
     }
 
+    /**
+     * Cache validators for a freelancer profile, read without loading the profile itself.
+     * Returns {@code null} when the profile does not exist.
+     */
+    @Transactional(readOnly = true)
+    public HttpCacheUtil.Validators getFreelancerProfileValidators(Long userId) {
+        return freelancerProfileRepository.findUpdatedAtByUserId(userId)
+                .map(updatedAt -> profileValidators("freelancer-profile", userId, updatedAt))
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public HttpCacheUtil.Validators getMyFreelancerProfileValidators() {
+        return getFreelancerProfileValidators(getCurrentUser().getId());
+    }
+
     @Transactional(readOnly = true)
     public ClientProfileResponse getClientProfile(Long userId) {
         ClientProfile profile = clientProfileRepository.findByUserId(userId)
@@ -94,6 +117,18 @@ public class UserProfileService {
         return mapClientToResponse(profile);
     }
 
+    @Transactional(readOnly = true)
+    public HttpCacheUtil.Validators getClientProfileValidators(Long userId) {
+        return clientProfileRepository.findUpdatedAtByUserId(userId)
+                .map(updatedAt -> profileValidators("client-profile", userId, updatedAt))
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public HttpCacheUtil.Validators getMyClientProfileValidators() {
+        return getClientProfileValidators(getCurrentUser().getId());
+    }
+
     @Transactional
     public ClientProfileResponse updateClientProfile(UpdateClientProfileRequest request) {
         UserPrincipal userPrincipal = getCurrentUser();
@@ -125,6 +160,10 @@ public class UserProfileService {
         return clientProfileMapper.toResponse(profile);
     }
 
+    private HttpCacheUtil.Validators profileValidators(String kind, Long userId, Instant updatedAt) {
+        return new HttpCacheUtil.Validators(HttpCacheUtil.weakETag(kind, userId, updatedAt), updatedAt);
+    }
+
     @Transactional(readOnly = true)
     public Page<FreelancerProfileResponse> searchFreelancers(
             BigDecimal minRating,
@@ -0,0 +1,144 @@
+package com.example.freelance.common.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutScopeTests {
+
+    @Test
+    void joinsAllSubtasks() throws Exception {
+        try (FanOutScope scope = new FanOutScope("test")) {
+            FanOutScope.Subtask<Integer> first = scope.fork(() -> 1);
+            FanOutScope.Subtask<String> second = scope.fork(() -> "two");
+
+            scope.join(Duration.ofSeconds(5));
+
+            assertThat(first.get()).isEqualTo(1);
+            assertThat(second.get()).isEqualTo("two");
+        }
+    }
+
+    @Test
+    void failingSubtaskInterruptsTheOthersAndIsRethrown() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOutScope scope = new FanOutScope("test")) {
+            FanOutScope.Subtask<Void> slow = scope.fork(blockUntilInterrupted(started, interrupted));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(() -> scope.join(Duration.ofSeconds(5)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.isSuccessful()).isFalse();
+        }
+    }
+
+    @Test
+    void checkedFailureIsWrapped() {
+        try (FanOutScope scope = new FanOutScope("test")) {
+            scope.fork(() -> {
+                throw new IOException("disk");
+            });
+
+            assertThatThrownBy(() -> scope.join(Duration.ofSeconds(5)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasCauseInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void timeoutInterruptsUnfinishedSubtasksAndKeepsFinishedResults() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOutScope scope = new FanOutScope("test")) {
+            FanOutScope.Subtask<Integer> fast = scope.fork(() -> 1);
+            FanOutScope.Subtask<Void> slow = scope.fork(blockUntilInterrupted(started, interrupted));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> scope.join(Duration.ofMillis(200))).isInstanceOf(TimeoutException.class);
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(fast.isSuccessful()).isTrue();
+            assertThat(fast.get()).isEqualTo(1);
+            assertThat(slow.isSuccessful()).isFalse();
+        }
+    }
+
+    @Test
+    void interruptedCallerCancelsSubtasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOutScope scope = new FanOutScope("test")) {
+            scope.fork(blockUntilInterrupted(started, interrupted));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(() -> scope.join(Duration.ofSeconds(5))).isInstanceOf(InterruptedException.class);
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void closeInterruptsRunningSubtasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        FanOutScope scope = new FanOutScope("test");
+        scope.fork(blockUntilInterrupted(started, interrupted));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        scope.close();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void closeDoesNotWaitForSubtasksIgnoringInterrupts() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FanOutScope scope = new FanOutScope("test");
+        FanOutScope.Subtask<Void> straggler = scope.fork(() -> {
+            started.countDown();
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            return null;
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long startedAt = System.nanoTime();
+        scope.close();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(straggler.isSuccessful()).isFalse();
+        release.countDown();
+    }
+
+    private static Callable<Void> blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        return () -> {
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+            return null;
+        };
+    }
+}
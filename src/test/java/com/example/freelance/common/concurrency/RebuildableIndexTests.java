@@ -0,0 +1,49 @@
+package com.example.freelance.common.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildableIndexTests {
+
+    @Test
+    void updatesDuringRebuildAreReplayedOntoTheNewGeneration() {
+        RebuildableIndex<List<String>> index = new RebuildableIndex<>(new ArrayList<>(List.of("old")));
+
+        List<String> rebuilt = index.rebuild(() -> {
+            index.apply(current -> current.add("concurrent"));
+            return new ArrayList<>(List.of("loaded"));
+        });
+
+        assertThat(rebuilt).containsExactly("loaded", "concurrent");
+        assertThat(index.get()).isSameAs(rebuilt);
+    }
+
+    @Test
+    void updatesAfterRebuildAreNotRecorded() {
+        RebuildableIndex<List<String>> index = new RebuildableIndex<>(new ArrayList<>());
+        index.rebuild(ArrayList::new);
+
+        index.apply(current -> current.add("later"));
+        List<String> next = index.rebuild(ArrayList::new);
+
+        assertThat(next).isEmpty();
+    }
+
+    @Test
+    void failedRebuildKeepsTheLiveGeneration() {
+        List<String> initial = new ArrayList<>(List.of("live"));
+        RebuildableIndex<List<String>> index = new RebuildableIndex<>(initial);
+
+        assertThatThrownBy(() -> index.rebuild(() -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        index.apply(current -> current.add("after"));
+        assertThat(index.get()).isSameAs(initial).containsExactly("live", "after");
+    }
+}
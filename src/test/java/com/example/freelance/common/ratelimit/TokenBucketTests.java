@@ -0,0 +1,60 @@
+package com.example.freelance.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        TokenBucket bucket = new TokenBucket(new RateLimitPolicy(5, 1), 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(1, 0)).isZero();
+        }
+        assertThat(bucket.tryConsume(1, 0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillsContinuouslyUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(new RateLimitPolicy(5, 2), 0);
+        assertThat(bucket.tryConsume(5, 0)).isZero();
+
+        assertThat(bucket.tryConsume(2, SECOND)).isZero();
+        assertThat(bucket.tryConsume(1, SECOND)).isEqualTo(SECOND / 2);
+
+        long idle = SECOND + 60 * SECOND;
+        assertThat(bucket.tryConsume(5, idle)).isZero();
+        assertThat(bucket.tryConsume(1, idle)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void overdraftIsRefusedWithoutTakingTokens() {
+        TokenBucket bucket = new TokenBucket(new RateLimitPolicy(4, 1), 0);
+        assertThat(bucket.tryConsume(2, 0)).isZero();
+
+        assertThat(bucket.tryConsume(3, 0)).isEqualTo(SECOND);
+        assertThat(bucket.tryConsume(2, 0)).isZero();
+    }
+
+    @Test
+    void reportedWaitIsEnoughToSucceed() {
+        TokenBucket bucket = new TokenBucket(new RateLimitPolicy(3, 3), 0);
+        assertThat(bucket.tryConsume(3, 0)).isZero();
+
+        long wait = bucket.tryConsume(2, SECOND / 3);
+        assertThat(wait).isPositive();
+        assertThat(bucket.tryConsume(2, SECOND / 3 + wait)).isZero();
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotRefill() {
+        TokenBucket bucket = new TokenBucket(new RateLimitPolicy(2, 1), 10 * SECOND);
+        assertThat(bucket.tryConsume(2, 10 * SECOND)).isZero();
+
+        assertThat(bucket.tryConsume(1, 5 * SECOND)).isEqualTo(SECOND);
+        assertThat(bucket.tryConsume(1, 11 * SECOND)).isZero();
+    }
+}
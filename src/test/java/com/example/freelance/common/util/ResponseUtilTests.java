@@ -0,0 +1,69 @@
+package com.example.freelance.common.util;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseUtilTests {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void registerMeters() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeMeters() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void slicesRequestedPage() {
+        Page<Integer> page = ResponseUtil.paginateInMemory(range(25), PageRequest.of(1, 10), "test");
+
+        assertThat(page.getContent()).containsExactly(10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+        assertThat(page.getTotalElements()).isEqualTo(25);
+    }
+
+    @Test
+    void offsetPastTheEndYieldsEmptyPage() {
+        Page<Integer> page = ResponseUtil.paginateInMemory(range(5), PageRequest.of(3, 10), "test");
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void unpagedReturnsEverything() {
+        Page<Integer> page = ResponseUtil.paginateInMemory(range(3), Pageable.unpaged(), "test");
+
+        assertThat(page.getContent()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void countsEveryCallAndFlagsUnboundedLists() {
+        ResponseUtil.paginateInMemory(range(10), PageRequest.of(0, 5), "reviews");
+        ResponseUtil.paginateInMemory(range(501), PageRequest.of(0, 5), "reviews");
+
+        assertThat(registry.get("freelance.pagination.in_memory").tags("source", "reviews", "unbounded", "false")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("freelance.pagination.in_memory").tags("source", "reviews", "unbounded", "true")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("freelance.pagination.in_memory.size").tags("source", "reviews")
+                .summary().totalAmount()).isEqualTo(511);
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+}
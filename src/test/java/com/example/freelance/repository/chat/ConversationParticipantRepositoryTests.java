@@ -0,0 +1,116 @@
+package com.example.freelance.repository.chat;
+
+import com.example.freelance.domain.chat.Conversation;
+import com.example.freelance.domain.chat.ConversationParticipant;
+import com.example.freelance.domain.user.ClientProfile;
+import com.example.freelance.domain.user.FreelancerProfile;
+import com.example.freelance.domain.user.Role;
+import com.example.freelance.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ConversationParticipantRepositoryTests {
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ConversationParticipantRepository participantRepository;
+
+    private ClientProfile client;
+    private int freelancers;
+
+    @BeforeEach
+    void setUp() {
+        client = new ClientProfile();
+        client.setUser(user("client@example.com", Role.CLIENT));
+        entityManager.persist(client);
+    }
+
+    @Test
+    void inboxPagesByActivityThenConversationIdWithoutGapsOrRepeats() {
+        Conversation oldest = conversation(NOW.minusSeconds(300));
+        Conversation tiedLow = conversation(NOW.minusSeconds(200));
+        Conversation tiedHigh = conversation(NOW.minusSeconds(200));
+        Conversation newest = conversation(NOW.minusSeconds(100));
+        Long userId = client.getUser().getId();
+
+        List<ConversationParticipant> first = participantRepository.findInbox(userId, PageRequest.of(0, 2));
+        assertThat(first).extracting(participant -> participant.getConversation().getId())
+                .containsExactly(newest.getId(), tiedHigh.getId());
+
+        ConversationParticipant last = first.get(first.size() - 1);
+        List<ConversationParticipant> second = participantRepository.findInboxBefore(
+                userId, last.getLastActivityAt(), last.getConversation().getId(), PageRequest.of(0, 2));
+        assertThat(second).extracting(participant -> participant.getConversation().getId())
+                .containsExactly(tiedLow.getId(), oldest.getId());
+
+        ConversationParticipant end = second.get(second.size() - 1);
+        assertThat(participantRepository.findInboxBefore(
+                userId, end.getLastActivityAt(), end.getConversation().getId(), PageRequest.of(0, 2))).isEmpty();
+    }
+
+    @Test
+    void newMessageMovesTheConversationToTheTopOfBothInboxes() {
+        Conversation older = conversation(NOW.minusSeconds(300));
+        Conversation newer = conversation(NOW.minusSeconds(100));
+
+        assertThat(participantRepository.touch(older.getId(), NOW)).isEqualTo(2);
+        assertThat(participantRepository.touch(older.getId(), NOW.minusSeconds(500))).isZero();
+        entityManager.clear();
+
+        assertThat(participantRepository.findInbox(client.getUser().getId(), PageRequest.of(0, 10)))
+                .extracting(participant -> participant.getConversation().getId())
+                .containsExactly(older.getId(), newer.getId());
+        Long freelancerUserId = entityManager.find(Conversation.class, older.getId()).getFreelancer().getUser().getId();
+        assertThat(participantRepository.findInbox(freelancerUserId, PageRequest.of(0, 10)))
+                .singleElement()
+                .satisfies(participant -> assertThat(participant.getLastActivityAt()).isEqualTo(NOW));
+    }
+
+    private Conversation conversation(Instant lastActivityAt) {
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setUser(user("freelancer" + (++freelancers) + "@example.com", Role.FREELANCER));
+        freelancer.setDisplayName("Freelancer " + freelancers);
+        entityManager.persist(freelancer);
+
+        Conversation conversation = new Conversation();
+        conversation.setClient(client);
+        conversation.setFreelancer(freelancer);
+        entityManager.persist(conversation);
+        participant(conversation, client.getUser().getId(), lastActivityAt);
+        participant(conversation, freelancer.getUser().getId(), lastActivityAt);
+        entityManager.flush();
+        return conversation;
+    }
+
+    private void participant(Conversation conversation, Long userId, Instant lastActivityAt) {
+        ConversationParticipant participant = new ConversationParticipant();
+        participant.setConversation(conversation);
+        participant.setUserId(userId);
+        participant.setLastActivityAt(lastActivityAt);
+        entityManager.persist(participant);
+    }
+
+    private User user(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.freelance.repository.chat;
+
+import com.example.freelance.domain.chat.Conversation;
+import com.example.freelance.domain.chat.Message;
+import com.example.freelance.domain.user.ClientProfile;
+import com.example.freelance.domain.user.FreelancerProfile;
+import com.example.freelance.domain.user.Role;
+import com.example.freelance.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class MessageRepositoryTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    private User clientUser;
+    private User freelancerUser;
+    private Conversation conversation;
+
+    @BeforeEach
+    void setUp() {
+        clientUser = user("client@example.com", Role.CLIENT);
+        freelancerUser = user("freelancer@example.com", Role.FREELANCER);
+
+        ClientProfile client = new ClientProfile();
+        client.setUser(clientUser);
+        entityManager.persist(client);
+        FreelancerProfile freelancer = new FreelancerProfile();
+        freelancer.setUser(freelancerUser);
+        freelancer.setDisplayName("Freelancer");
+        entityManager.persist(freelancer);
+
+        conversation = new Conversation();
+        conversation.setClient(client);
+        conversation.setFreelancer(freelancer);
+        entityManager.persist(conversation);
+    }
+
+    @Test
+    void unreadCountIsEverythingFromTheOtherParticipantAboveTheWatermark() {
+        Message first = message(freelancerUser, "first");
+        message(freelancerUser, "second");
+        message(clientUser, "own message");
+        message(freelancerUser, "third");
+
+        assertThat(messageRepository.countUnreadMessages(conversation.getId(), 0L, clientUser.getId())).isEqualTo(3);
+        assertThat(messageRepository.countUnreadMessages(conversation.getId(), first.getId(), clientUser.getId())).isEqualTo(2);
+        assertThat(messageRepository.countUnreadMessages(conversation.getId(), 0L, freelancerUser.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void watermarkOnlyMovesForward() {
+        Message first = message(freelancerUser, "first");
+        Message second = message(freelancerUser, "second");
+
+        assertThat(conversationRepository.advanceClientReadWatermark(conversation.getId(), second.getId())).isEqualTo(1);
+        assertThat(conversationRepository.advanceClientReadWatermark(conversation.getId(), first.getId())).isZero();
+        entityManager.clear();
+
+        assertThat(entityManager.find(Conversation.class, conversation.getId()).getClientLastReadMessageId())
+                .isEqualTo(second.getId());
+    }
+
+    @Test
+    void batchCountsUseEachParticipantsOwnWatermark() {
+        Message fromFreelancer = message(freelancerUser, "from freelancer");
+        message(freelancerUser, "another from freelancer");
+        message(clientUser, "from client");
+        conversationRepository.advanceClientReadWatermark(conversation.getId(), fromFreelancer.getId());
+        entityManager.clear();
+
+        List<Object[]> clientCounts = messageRepository.countUnreadMessagesByConversationIds(
+                List.of(conversation.getId()), clientUser.getId());
+        List<Object[]> freelancerCounts = messageRepository.countUnreadMessagesByConversationIds(
+                List.of(conversation.getId()), freelancerUser.getId());
+
+        assertThat(clientCounts).singleElement().satisfies(row -> assertThat(((Number) row[1]).longValue()).isEqualTo(1));
+        assertThat(freelancerCounts).singleElement().satisfies(row -> assertThat(((Number) row[1]).longValue()).isEqualTo(1));
+    }
+
+    private User user(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+
+    private Message message(User sender, String text) {
+        Message message = new Message();
+        message.setConversation(conversation);
+        message.setSender(sender);
+        message.setText(text);
+        return entityManager.persistAndFlush(message);
+    }
+}
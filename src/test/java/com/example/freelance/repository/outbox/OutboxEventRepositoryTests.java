@@ -0,0 +1,74 @@
+package com.example.freelance.repository.outbox;
+
+import com.example.freelance.domain.outbox.OutboxEvent;
+import com.example.freelance.domain.outbox.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEventRepositoryTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void onlyTheOldestPendingEventOfEachAggregateIsClaimed() {
+        OutboxEvent firstOfA = event(1L, Instant.now().minusSeconds(1));
+        event(1L, Instant.now().minusSeconds(1));
+        OutboxEvent firstOfB = event(2L, Instant.now().minusSeconds(1));
+
+        assertThat(claim()).containsExactly(firstOfA.getId(), firstOfB.getId());
+    }
+
+    @Test
+    void eventWaitingForRetryHoldsBackLaterEventsOfItsAggregate() {
+        event(1L, Instant.now().plus(Duration.ofMinutes(5)));
+        event(1L, Instant.now().minusSeconds(1));
+        OutboxEvent other = event(2L, Instant.now().minusSeconds(1));
+
+        assertThat(claim()).containsExactly(other.getId());
+    }
+
+    @Test
+    void processedAndFailedEventsDoNotHoldBackTheirAggregate() {
+        OutboxEvent processed = event(1L, Instant.now().minusSeconds(1));
+        processed.setStatus(OutboxStatus.PROCESSED);
+        OutboxEvent failed = event(1L, Instant.now().minusSeconds(1));
+        failed.setStatus(OutboxStatus.FAILED);
+        OutboxEvent next = event(1L, Instant.now().minusSeconds(1));
+        entityManager.flush();
+
+        assertThat(claim()).containsExactly(next.getId());
+    }
+
+    private List<Long> claim() {
+        return outboxEventRepository.claimDispatchable(OutboxStatus.PENDING, Instant.now(), PageRequest.of(0, 10))
+                .stream()
+                .map(OutboxEvent::getId)
+                .toList();
+    }
+
+    private OutboxEvent event(Long aggregateId, Instant nextAttemptAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType("Project");
+        event.setAggregateId(aggregateId);
+        event.setEventType("ProposalSubmitted");
+        event.setPayload("{}");
+        event.setNextAttemptAt(nextAttemptAt);
+        return entityManager.persistAndFlush(event);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.freelance.service.auth;
+
+import com.example.freelance.common.exception.UnauthorizedException;
+import com.example.freelance.domain.user.RefreshToken;
+import com.example.freelance.domain.user.Role;
+import com.example.freelance.domain.user.User;
+import com.example.freelance.domain.user.UserStatus;
+import com.example.freelance.repository.user.RefreshTokenRepository;
+import com.example.freelance.security.JwtUtil;
+import com.example.freelance.security.RevokedTokenRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTests {
+    private static final String FAMILY = "family-1";
+
+    private RefreshTokenRepository repository;
+    private RevokedTokenRegistry registry;
+    private RefreshTokenService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RefreshTokenRepository.class);
+        registry = new RevokedTokenRegistry(1000, 0.01);
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.generateAccessToken(any()))
+                .thenReturn(new JwtUtil.AccessToken("access", "jti-new", Instant.now().plus(Duration.ofMinutes(15))));
+        service = new RefreshTokenService(repository, registry, jwtUtil, Duration.ofDays(30).toMillis());
+
+        user = new User();
+        user.setId(7L);
+        user.setEmail("user@example.com");
+        user.setPassword("hash");
+        user.setRole(Role.CLIENT);
+        user.setStatus(UserStatus.ACTIVE);
+    }
+
+    @Test
+    void rotationIssuesANewTokenInTheSameFamily() {
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(stored("jti-old")));
+        when(repository.revokeIfActive(eq(1L), any())).thenReturn(1);
+
+        RefreshTokenService.IssuedTokens issued = service.rotate("raw-old");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(FAMILY);
+        assertThat(saved.getValue().getAccessTokenJti()).isEqualTo("jti-new");
+        assertThat(saved.getValue().getTokenHash()).hasSize(64).isNotEqualTo(stored("jti-old").getTokenHash());
+        assertThat(issued.refreshToken()).isNotEqualTo("raw-old");
+        verify(repository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheFamilyAndItsAccessTokens() {
+        RefreshToken rotated = stored("jti-old");
+        RefreshToken successor = stored("jti-successor");
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(rotated));
+        when(repository.revokeIfActive(eq(1L), any())).thenReturn(0);
+        when(repository.findWithLiveAccessTokens(eq(FAMILY), any())).thenReturn(List.of(rotated, successor));
+
+        assertThatThrownBy(() -> service.rotate("raw-old"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "AUTH_REFRESH_TOKEN_REUSED");
+
+        verify(repository).revokeFamily(eq(FAMILY), any());
+        verify(repository, never()).save(any());
+        assertThat(registry.isRevoked("jti-old")).isTrue();
+        assertThat(registry.isRevoked("jti-successor")).isTrue();
+    }
+
+    @Test
+    void inactiveUserCannotRotate() {
+        user.setStatus(UserStatus.BANNED);
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(stored("jti-old")));
+        when(repository.revokeIfActive(eq(1L), any())).thenReturn(1);
+
+        assertThatThrownBy(() -> service.rotate("raw-old")).isInstanceOf(UnauthorizedException.class);
+
+        verify(repository).revokeFamily(eq(FAMILY), any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void restoreRevocationsLoadsRevocationsMadeOnOtherNodes() {
+        when(repository.findRevokedWithLiveAccessTokens(any())).thenReturn(List.of(stored("jti-elsewhere")));
+
+        service.restoreRevocations();
+
+        assertThat(registry.isRevoked("jti-elsewhere")).isTrue();
+        assertThat(registry.isRevoked("jti-other")).isFalse();
+    }
+
+    private RefreshToken stored(String accessTokenJti) {
+        RefreshToken token = new RefreshToken();
+        token.setId(1L);
+        token.setUser(user);
+        token.setTokenHash("a".repeat(64));
+        token.setFamilyId(FAMILY);
+        token.setExpiresAt(Instant.now().plus(Duration.ofDays(1)));
+        token.setAccessTokenJti(accessTokenJti);
+        token.setAccessTokenExpiresAt(Instant.now().plus(Duration.ofMinutes(10)));
+        return token;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.freelance.service.chat;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeartbeatWheelTests {
+    private static final long TICK = 1000;
+
+    @Test
+    void handsBackUserOnceTheirDeadlineTickPasses() {
+        HeartbeatWheel wheel = new HeartbeatWheel(TICK, 5, 0);
+        wheel.schedule(1L, 2500);
+
+        assertThat(wheel.advance(2999)).isEmpty();
+        assertThat(wheel.advance(3000)).containsExactly(1L);
+        assertThat(wheel.advance(4000)).isEmpty();
+    }
+
+    @Test
+    void deadlineOnTickBoundaryExpiresOnThatTick() {
+        HeartbeatWheel wheel = new HeartbeatWheel(TICK, 5, 0);
+        wheel.schedule(1L, 2000);
+
+        assertThat(wheel.advance(1999)).isEmpty();
+        assertThat(wheel.advance(2000)).containsExactly(1L);
+    }
+
+    @Test
+    void rearmedUserComesBackAtEachScheduledDeadline() {
+        HeartbeatWheel wheel = new HeartbeatWheel(TICK, 5, 0);
+        wheel.schedule(1L, 2000);
+        wheel.schedule(1L, 4000);
+
+        assertThat(wheel.advance(2000)).containsExactly(1L);
+        assertThat(wheel.advance(3000)).isEmpty();
+        assertThat(wheel.advance(4000)).containsExactly(1L);
+    }
+
+    @Test
+    void userCanBeRearmedAfterExpiring() {
+        HeartbeatWheel wheel = new HeartbeatWheel(TICK, 5, 0);
+        wheel.schedule(1L, 1000);
+        assertThat(wheel.advance(1000)).containsExactly(1L);
+
+        wheel.schedule(1L, 6000);
+
+        assertThat(wheel.advance(5000)).isEmpty();
+        assertThat(wheel.advance(6000)).containsExactly(1L);
+    }
+
+    @Test
+    void repeatedHeartbeatsInOneTickAreHandedBackOnce() {
+        HeartbeatWheel wheel = new HeartbeatWheel(TICK, 5, 0);
+        wheel.schedule(1L, 2100);
+        wheel.schedule(1L, 2900);
+
+        assertThat(wheel.advance(3000)).containsExactly(1L);
+    }
+
+    @Test
+    void advancingPastAFullTurnDrainsEverySlot() {
+        HeartbeatWheel wheel = new HeartbeatWheel(TICK, 5, 0);
+        for (long userId = 1; userId <= 4; userId++) {
+            wheel.schedule(userId, userId * TICK);
+        }
+
+        assertThat(wheel.advance(60_000)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(wheel.advance(61_000)).isEmpty();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.freelance.service.chat;
+
+import com.example.freelance.common.util.KeysetCursor;
+import com.example.freelance.domain.chat.Conversation;
+import com.example.freelance.domain.chat.Message;
+import com.example.freelance.domain.chat.MessageArchive;
+import com.example.freelance.domain.user.User;
+import com.example.freelance.repository.chat.ConversationRepository;
+import com.example.freelance.repository.chat.MessageArchiveRepository;
+import com.example.freelance.repository.chat.MessageRepository;
+import com.example.freelance.repository.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageArchiveServiceTests {
+    private static final Long CONVERSATION_ID = 5L;
+    private static final Long ARCHIVE_ID = 100L;
+    private static final Instant PERIOD_START = LocalDate.now(ZoneOffset.UTC).minusYears(1).withDayOfMonth(1)
+            .atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    private MessageRepository messageRepository;
+    private MessageArchiveRepository archiveRepository;
+    private MessageArchiveService service;
+    private Conversation conversation;
+    private User sender;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = mock(MessageRepository.class);
+        archiveRepository = mock(MessageArchiveRepository.class);
+        ConversationRepository conversationRepository = mock(ConversationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+
+        conversation = new Conversation();
+        conversation.setId(CONVERSATION_ID);
+        sender = new User();
+        sender.setId(7L);
+        when(conversationRepository.getReferenceById(CONVERSATION_ID)).thenReturn(conversation);
+        when(userRepository.getReferenceById(7L)).thenReturn(sender);
+
+        service = new MessageArchiveService(messageRepository, archiveRepository, conversationRepository, userRepository,
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                mock(PlatformTransactionManager.class), true, 180, 10, 10, 60);
+    }
+
+    @Test
+    void archivedMonthReadsBackNewestFirst() {
+        Message first = message(1L, "first", PERIOD_START.plusSeconds(60));
+        Message second = message(2L, "second", PERIOD_START.plusSeconds(120));
+        hotRows(first, second);
+
+        service.archiveOldMessages();
+        MessageArchive saved = savedArchive();
+
+        assertThat(saved.getMessageCount()).isEqualTo(2);
+        assertThat(saved.getPeriodStart()).isEqualTo(PERIOD_START);
+        serve(saved);
+        List<Message> page = service.findBefore(conversation, null, 10);
+        assertThat(page).extracting(Message::getId).containsExactly(2L, 1L);
+        assertThat(page.get(0).getText()).isEqualTo("second");
+        assertThat(page.get(0).getCreatedAt()).isEqualTo(second.getCreatedAt());
+        assertThat(page.get(0).getSender()).isSameAs(sender);
+
+        List<Message> older = service.findBefore(conversation, new KeysetCursor(second.getCreatedAt(), 2L), 10);
+        assertThat(older).extracting(Message::getId).containsExactly(1L);
+    }
+
+    @Test
+    void leftoverRowsAreMergedIntoAnExistingArchiveBeforeTheyAreDeleted() {
+        hotRows(message(1L, "first", PERIOD_START.plusSeconds(60)));
+        service.archiveOldMessages();
+        MessageArchive existing = savedArchive();
+
+        Message late = message(3L, "late", PERIOD_START.plusSeconds(30));
+        hotRows(late);
+        when(archiveRepository.findByConversationIdAndPeriodStartForUpdate(CONVERSATION_ID, PERIOD_START))
+                .thenReturn(Optional.of(existing));
+        clearInvocations(archiveRepository, messageRepository);
+        service.archiveOldMessages();
+
+        InOrder order = inOrder(archiveRepository, messageRepository);
+        order.verify(archiveRepository).save(existing);
+        order.verify(messageRepository).deleteByConversationIdAndCreatedAtBetween(eq(CONVERSATION_ID), eq(PERIOD_START), any());
+        assertThat(existing.getMessageCount()).isEqualTo(2);
+
+        serve(existing);
+        assertThat(service.findBefore(conversation, null, 10)).extracting(Message::getId).containsExactly(1L, 3L);
+    }
+
+    private void hotRows(Message... messages) {
+        when(messageRepository.findConversationIdsWithMessagesBefore(any(), any())).thenReturn(List.of(CONVERSATION_ID));
+        when(messageRepository.findOldestCreatedAt(eq(CONVERSATION_ID), eq(Instant.EPOCH), any()))
+                .thenReturn(messages[0].getCreatedAt());
+        when(messageRepository.findByConversationIdAndCreatedAtBetween(eq(CONVERSATION_ID), eq(PERIOD_START), any()))
+                .thenReturn(List.of(messages));
+    }
+
+    private MessageArchive savedArchive() {
+        ArgumentCaptor<MessageArchive> saved = ArgumentCaptor.forClass(MessageArchive.class);
+        verify(archiveRepository).save(saved.capture());
+        MessageArchive archive = saved.getValue();
+        archive.setId(ARCHIVE_ID);
+        return archive;
+    }
+
+    private void serve(MessageArchive archive) {
+        when(archiveRepository.findVersionsStartingAtOrBefore(eq(CONVERSATION_ID), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{ARCHIVE_ID, archive.getMessageCount()}));
+        when(archiveRepository.findPayloadById(ARCHIVE_ID)).thenReturn(Optional.of(archive.getPayload()));
+    }
+
+    private Message message(Long id, String text, Instant createdAt) {
+        Message message = new Message();
+        message.setId(id);
+        message.setConversation(conversation);
+        message.setSender(sender);
+        message.setText(text);
+        message.setCreatedAt(createdAt);
+        message.setUpdatedAt(createdAt);
+        return message;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.freelance.service.idempotency;
+
+import com.example.freelance.repository.idempotency.IdempotencyRecordRepository;
+import com.example.freelance.service.idempotency.IdempotencyService.Acquisition;
+import com.example.freelance.service.idempotency.IdempotencyService.Decision;
+import com.example.freelance.service.idempotency.IdempotencyService.StoredResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class IdempotencyServiceTests {
+    private static final StoredResponse CREATED = new StoredResponse("payload", 201, "application/json", "{\"id\":1}");
+
+    private IdempotencyRecordRepository repository;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyRecordRepository.class);
+        service = new IdempotencyService(repository, new SimpleMeterRegistry(), 3600, 5, 100);
+    }
+
+    @Test
+    void retryWithSamePayloadReplaysTheStoredResponse() {
+        assertThat(service.acquire("key", 1L, "/api/payments", "payload").decision()).isEqualTo(Decision.PROCEED);
+        service.complete("key", CREATED);
+
+        Acquisition retry = service.acquire("key", 1L, "/api/payments", "payload");
+
+        assertThat(retry.decision()).isEqualTo(Decision.REPLAY);
+        assertThat(retry.response()).isEqualTo(CREATED);
+        verify(repository).saveAndFlush(any());
+    }
+
+    @Test
+    void retryWithDifferentPayloadIsRejected() {
+        service.acquire("key", 1L, "/api/payments", "payload");
+        service.complete("key", CREATED);
+
+        assertThat(service.acquire("key", 1L, "/api/payments", "other").decision()).isEqualTo(Decision.KEY_REUSED);
+    }
+
+    @Test
+    void releasedKeyExecutesAgain() {
+        service.acquire("key", 1L, "/api/payments", "payload");
+        service.release("key");
+
+        assertThat(service.acquire("key", 1L, "/api/payments", "payload").decision()).isEqualTo(Decision.PROCEED);
+        verify(repository).deleteByKeyHash("key");
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheOriginalAndReplaysIt() throws Exception {
+        service.acquire("key", 1L, "/api/payments", "payload");
+
+        CompletableFuture<Acquisition> duplicate = CompletableFuture.supplyAsync(
+                () -> service.acquire("key", 1L, "/api/payments", "payload"));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        service.complete("key", CREATED);
+
+        Acquisition replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.decision()).isEqualTo(Decision.REPLAY);
+        assertThat(replayed.response()).isEqualTo(CREATED);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.freelance.service.outbox;
+
+import com.example.freelance.domain.outbox.OutboxEvent;
+import com.example.freelance.domain.outbox.OutboxStatus;
+import com.example.freelance.repository.outbox.OutboxEventRepository;
+import com.example.freelance.service.outbox.event.ProposalSubmitted;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTests {
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_DELAY_MS = 1000;
+
+    private OutboxEventRepository repository;
+    private RecordingSubscriber subscriber;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        subscriber = new RecordingSubscriber();
+        dispatcher = new OutboxDispatcher(repository, List.of(subscriber), new ObjectMapper(), new SimpleMeterRegistry(),
+                mock(PlatformTransactionManager.class), true, 100, 10, MAX_ATTEMPTS, BASE_DELAY_MS, 600000, 72);
+    }
+
+    @Test
+    void deliversClaimedEventsInClaimOrder() {
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent second = event(2L, 0);
+        claim(first, second);
+
+        dispatcher.poll();
+
+        assertThat(subscriber.delivered).containsExactly(1L, 2L);
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(second.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithExponentialBackoff() {
+        OutboxEvent event = event(1L, 2);
+        claim(event);
+        subscriber.failing = true;
+
+        Instant before = Instant.now();
+        dispatcher.poll();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getLastError()).contains("subscriber down");
+        assertThat(event.getNextAttemptAt()).isCloseTo(before.plusMillis(BASE_DELAY_MS * 4), within(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void eventIsParkedOnceAttemptsRunOut() {
+        OutboxEvent event = event(1L, MAX_ATTEMPTS - 1);
+        claim(event);
+        subscriber.failing = true;
+
+        dispatcher.poll();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    private void claim(OutboxEvent... events) {
+        when(repository.claimDispatchable(eq(OutboxStatus.PENDING), any(), any())).thenReturn(List.of(events));
+    }
+
+    private static OutboxEvent event(Long id, int attempts) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setCreatedAt(Instant.now());
+        event.setAggregateType("Project");
+        event.setAggregateId(10L);
+        event.setEventType(ProposalSubmitted.class.getSimpleName());
+        event.setPayload("{\"proposalId\":" + id + ",\"projectId\":10,\"projectTitle\":\"Site\"," +
+                "\"freelancerUserId\":2,\"clientUserId\":1,\"bidAmount\":100}");
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(Instant.now());
+        return event;
+    }
+
+    private static class RecordingSubscriber implements DomainEventSubscriber {
+        private final List<Long> delivered = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public Set<Class<? extends DomainEventPayload>> eventTypes() {
+            return Set.of(ProposalSubmitted.class);
+        }
+
+        @Override
+        public void onEvent(DomainEvent<?> event) {
+            if (failing) {
+                throw new IllegalStateException("subscriber down");
+            }
+            delivered.add(event.id());
+        }
+    }
+}